@@ -0,0 +1,82 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.Execution;
+import de.tuberlin.aset.spreadingactivation.ExecutionResult;
+import de.tuberlin.aset.spreadingactivation.store.HeapActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.OffHeapActivationStore;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractExecutionBenchmark {
+
+	@Param({ "3" })
+	public int pulses;
+
+	@Param({ "QUEUE" })
+	public Execution.Scheduling scheduling;
+
+	@Param({ "PROPERTY" })
+	public Store store;
+
+	@Param({ "false" })
+	public boolean compiled;
+
+	private ExecutionResult result;
+
+	protected abstract Configuration configuration();
+
+	@Benchmark
+	public int run(GraphState graphState) {
+		Execution.Builder builder = configuration().execution(graphState.traversal()) //
+				.scheduling(scheduling);
+		if (compiled) {
+			builder.compiledGraph(graphState.compiledGraph());
+		}
+		if (store == Store.HEAP) {
+			builder.activationStore(new HeapActivationStore());
+		} else if (store == Store.OFF_HEAP) {
+			builder.activationStore(new OffHeapActivationStore());
+		}
+		Execution execution = builder.create();
+		execution.activate(__.hasId(graphState.startVertexIds()), 1d);
+		execution.run();
+		result = execution.getResult();
+		return result.pulse();
+	}
+
+	@TearDown(Level.Invocation)
+	public void cleanup() {
+		if (result != null) {
+			result.cleanup();
+			result = null;
+		}
+	}
+
+	public static enum Store {
+
+		PROPERTY, HEAP, OFF_HEAP;
+
+	}
+
+}
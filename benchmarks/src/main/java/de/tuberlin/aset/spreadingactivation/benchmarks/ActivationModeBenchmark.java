@@ -0,0 +1,21 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+import de.tuberlin.aset.spreadingactivation.mode.ActivationMode;
+
+public class ActivationModeBenchmark extends AbstractExecutionBenchmark {
+
+	@Param({ "IDENTITY", "SIG", "LOG2", "LOG10", "LOG2SIG", "LOG10SIG" })
+	public String activationMode;
+
+	@Override
+	protected Configuration configuration() {
+		return SpreadingActivation.build(pulses) //
+				.activationMode(Modes.constant(ActivationMode.Default.class, activationMode, ActivationMode.class)) //
+				.create();
+	}
+
+}
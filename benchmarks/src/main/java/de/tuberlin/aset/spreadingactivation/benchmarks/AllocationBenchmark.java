@@ -0,0 +1,92 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tuberlin.aset.spreadingactivation.Execution;
+import de.tuberlin.aset.spreadingactivation.ExecutionResult;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+import de.tuberlin.aset.spreadingactivation.benchmarks.AbstractExecutionBenchmark.Store;
+import de.tuberlin.aset.spreadingactivation.store.HeapActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.OffHeapActivationStore;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationBenchmark {
+
+	@Param({ "3" })
+	public int pulses;
+
+	@Param({ "QUEUE", "FORK_JOIN" })
+	public Execution.Scheduling scheduling;
+
+	@Param({ "PROPERTY", "HEAP", "OFF_HEAP" })
+	public Store store;
+
+	@Param({ "false", "true" })
+	public boolean compiled;
+
+	private ExecutionResult result;
+
+	@Benchmark
+	public long run(GraphState graphState, ProcessedEdges processedEdges) {
+		Execution.Builder builder = SpreadingActivation.build(pulses).create().execution(graphState.traversal()) //
+				.scheduling(scheduling);
+		if (compiled) {
+			builder.compiledGraph(graphState.compiledGraph());
+		}
+		if (store == Store.HEAP) {
+			builder.activationStore(new HeapActivationStore());
+		} else if (store == Store.OFF_HEAP) {
+			builder.activationStore(new OffHeapActivationStore());
+		}
+		Execution execution = builder.create();
+		execution.activate(__.hasId(graphState.startVertexIds()), 1d);
+		execution.run();
+		result = execution.getResult();
+		long edges = result.statistics(result.pulse()).totalProcessedEdges();
+		processedEdges.edges += edges;
+		return edges;
+	}
+
+	@TearDown(Level.Invocation)
+	public void cleanup() {
+		if (result != null) {
+			result.cleanup();
+			result = null;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class ProcessedEdges {
+
+		public long edges;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			edges = 0;
+		}
+
+	}
+
+}
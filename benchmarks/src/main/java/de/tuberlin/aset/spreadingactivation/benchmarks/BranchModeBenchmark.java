@@ -0,0 +1,21 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+import de.tuberlin.aset.spreadingactivation.mode.BranchMode;
+
+public class BranchModeBenchmark extends AbstractExecutionBenchmark {
+
+	@Param({ "NONE", "DEGREE", "FANOUT", "BRANCH" })
+	public String branchMode;
+
+	@Override
+	protected Configuration configuration() {
+		return SpreadingActivation.build(pulses) //
+				.branchMode(Modes.constant(BranchMode.Default.class, branchMode, BranchMode.class)) //
+				.create();
+	}
+
+}
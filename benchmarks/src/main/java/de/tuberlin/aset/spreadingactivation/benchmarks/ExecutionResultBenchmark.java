@@ -0,0 +1,61 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tuberlin.aset.spreadingactivation.Execution;
+import de.tuberlin.aset.spreadingactivation.ExecutionResult;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionResultBenchmark {
+
+	private static final String SUM_KEY = "benchmark_sum";
+
+	@Param({ "3" })
+	public int pulses;
+
+	@Param({ "1.0", "0.5" })
+	public double lambda;
+
+	private ExecutionResult result;
+
+	@Setup(Level.Trial)
+	public void setup(GraphState graphState) {
+		Execution execution = SpreadingActivation.build(pulses).create().execution(graphState.traversal()).create();
+		execution.activate(__.hasId(graphState.startVertexIds()), 1d);
+		execution.run();
+		result = execution.getResult();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(GraphState graphState) {
+		result.cleanup();
+		graphState.traversal().V().properties(SUM_KEY).drop().iterate();
+	}
+
+	@Benchmark
+	public void accumulateActivations() {
+		result.accumulateActivations(SUM_KEY, lambda);
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.tuberlin.aset.spreadingactivation.util.BatchSizer;
+import de.tuberlin.aset.spreadingactivation.util.ExecutorQueue;
+import de.tuberlin.aset.spreadingactivation.util.ForkJoinPhaseScheduler;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorQueueBenchmark {
+
+	@Param({ "10000" })
+	public int tasks;
+
+	@Param({ "0", "100" })
+	public int tokens;
+
+	private ExecutorService executor;
+	private ForkJoinPool forkJoinPool;
+	private int parallelTasks;
+	private List<Integer> items;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		parallelTasks = Runtime.getRuntime().availableProcessors();
+		executor = Executors.newCachedThreadPool();
+		forkJoinPool = new ForkJoinPool(parallelTasks);
+		items = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			items.add(i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdown();
+		forkJoinPool.shutdown();
+	}
+
+	@Benchmark
+	public void queue() throws Exception {
+		ExecutorQueue queue = new ExecutorQueue(executor, parallelTasks);
+		Iterator<Integer> iterator = items.iterator();
+		queue.submit(new Iterator<Runnable>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Runnable next() {
+				iterator.next();
+				return () -> Blackhole.consumeCPU(tokens);
+			}
+
+		});
+		queue.awaitCompleted();
+	}
+
+	@Benchmark
+	public void batchedQueue() throws Exception {
+		ExecutorQueue queue = new ExecutorQueue(executor, parallelTasks);
+		queue.submit(items, new BatchSizer(), item -> Blackhole.consumeCPU(tokens));
+		queue.awaitPhase();
+	}
+
+	@Benchmark
+	public void forkJoin() throws Exception {
+		ForkJoinPhaseScheduler scheduler = new ForkJoinPhaseScheduler(forkJoinPool);
+		scheduler.submit(items, new BatchSizer(), item -> Blackhole.consumeCPU(tokens));
+		scheduler.awaitPhase();
+	}
+
+}
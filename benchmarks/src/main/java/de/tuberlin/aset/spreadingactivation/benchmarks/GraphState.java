@@ -0,0 +1,69 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import de.tuberlin.aset.spreadingactivation.benchmarks.SyntheticGraphs.Distribution;
+import de.tuberlin.aset.spreadingactivation.compiled.CompiledGraph;
+
+@State(Scope.Benchmark)
+public class GraphState {
+
+	@Param({ "10000" })
+	public int vertices;
+
+	@Param({ "8" })
+	public int degree;
+
+	@Param({ "UNIFORM", "POWER_LAW" })
+	public Distribution distribution;
+
+	@Param({ "3" })
+	public int startVertices;
+
+	@Param({ "42" })
+	public long seed;
+
+	private Graph graph;
+	private GraphTraversalSource traversal;
+	private Object[] startVertexIds;
+	private CompiledGraph compiledGraph;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		graph = SyntheticGraphs.generate(vertices, degree, distribution, seed);
+		traversal = graph.traversal();
+		startVertexIds = traversal.V().limit(startVertices).id().toList().toArray();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		graph.close();
+	}
+
+	public Graph graph() {
+		return graph;
+	}
+
+	public GraphTraversalSource traversal() {
+		return traversal;
+	}
+
+	public Object[] startVertexIds() {
+		return startVertexIds;
+	}
+
+	public synchronized CompiledGraph compiledGraph() {
+		if (compiledGraph == null) {
+			compiledGraph = CompiledGraph.compile(traversal);
+		}
+		return compiledGraph;
+	}
+
+}
@@ -0,0 +1,16 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+final class Modes {
+
+	private Modes() {
+	}
+
+	static <T> T constant(Class<?> defaults, String name, Class<T> type) {
+		try {
+			return type.cast(defaults.getField(name).get(null));
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalArgumentException("unknown " + type.getSimpleName() + " " + name, e);
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tuberlin.aset.spreadingactivation.Execution;
+import de.tuberlin.aset.spreadingactivation.ExecutionResult;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+import de.tuberlin.aset.spreadingactivation.spreadgraph.Generation;
+import de.tuberlin.aset.spreadingactivation.spreadgraph.RelevantMinimization;
+import de.tuberlin.aset.spreadingactivation.spreadgraph.SpreadGraph;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpreadGraphBenchmark {
+
+	@Param({ "3" })
+	public int pulses;
+
+	private ExecutionResult result;
+	private SpreadGraph spreadGraph;
+	private Object relevantVertexId;
+
+	@Setup(Level.Trial)
+	public void setup(GraphState graphState) {
+		Execution execution = SpreadingActivation.build(pulses).create().execution(graphState.traversal()).create();
+		execution.activate(__.hasId(graphState.startVertexIds()), 1d);
+		execution.run();
+		result = execution.getResult();
+		spreadGraph = generation();
+		relevantVertexId = result.activatedVertices(result.pulse()).id().tryNext()
+				.orElse(graphState.startVertexIds()[0]);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		result.cleanup();
+	}
+
+	@Benchmark
+	public SpreadGraph generation() {
+		Generation generation = result.generateSpreadGraph().create();
+		generation.run();
+		return generation.getSpreadGraph();
+	}
+
+	@Benchmark
+	public SpreadGraph relevantMinimization() {
+		RelevantMinimization minimization = RelevantMinimization.build(spreadGraph, relevantVertexId).create();
+		minimization.run();
+		return minimization.getSpreadGraph();
+	}
+
+}
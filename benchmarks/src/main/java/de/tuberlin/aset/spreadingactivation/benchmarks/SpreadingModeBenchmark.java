@@ -0,0 +1,22 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.SpreadingActivation;
+import de.tuberlin.aset.spreadingactivation.mode.SpreadingMode;
+
+public class SpreadingModeBenchmark extends AbstractExecutionBenchmark {
+
+	@Param({ "BASIC", "RECENT_RECEIVER", "FORWARD", "FORWARD_RECENT_RECEIVER", "FORWARD_LOOP",
+			"FORWARD_LOOP_RECENT_RECEIVER" })
+	public String spreadingMode;
+
+	@Override
+	protected Configuration configuration() {
+		return SpreadingActivation.build(pulses) //
+				.sendMode(Modes.constant(SpreadingMode.Default.class, spreadingMode, SpreadingMode.class)) //
+				.create();
+	}
+
+}
@@ -0,0 +1,61 @@
+package de.tuberlin.aset.spreadingactivation.benchmarks;
+
+import java.util.Random;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+public final class SyntheticGraphs {
+
+	public static final String TYPE_PROPERTY_KEY = "type";
+	public static final String WEIGHT_PROPERTY_KEY = "weight";
+
+	private static final String[] TYPES = { "a", "b", "c" };
+	private static final String[] LABELS = { "knows", "likes" };
+
+	private static final double POWER_LAW_RANDOM_ENDPOINT = 0.2d;
+
+	private SyntheticGraphs() {
+	}
+
+	public static Graph generate(int vertexCount, int averageDegree, Distribution distribution, long seed) {
+		Graph graph = TinkerGraph.open();
+		Random random = new Random(seed);
+
+		Vertex[] vertices = new Vertex[vertexCount];
+		for (int i = 0; i < vertexCount; i++) {
+			String type = TYPES[i % TYPES.length];
+			vertices[i] = graph.addVertex(T.label, type, TYPE_PROPERTY_KEY, type);
+		}
+
+		long edgeCount = (long) vertexCount * averageDegree / 2;
+		int[] endpoints = new int[(int) Math.min(Integer.MAX_VALUE - 8, edgeCount * 2)];
+		int endpointCount = 0;
+		for (long i = 0; i < edgeCount; i++) {
+			int from = random.nextInt(vertexCount);
+			int to;
+			if (distribution == Distribution.POWER_LAW && endpointCount > 0
+					&& random.nextDouble() >= POWER_LAW_RANDOM_ENDPOINT) {
+				to = endpoints[random.nextInt(endpointCount)];
+			} else {
+				to = random.nextInt(vertexCount);
+			}
+			vertices[from].addEdge(LABELS[(int) (i % LABELS.length)], vertices[to], WEIGHT_PROPERTY_KEY,
+					random.nextDouble());
+			if (endpointCount + 2 <= endpoints.length) {
+				endpoints[endpointCount++] = from;
+				endpoints[endpointCount++] = to;
+			}
+		}
+		return graph;
+	}
+
+	public static enum Distribution {
+
+		UNIFORM, POWER_LAW;
+
+	}
+
+}
@@ -1,9 +1,199 @@
 package de.tuberlin.aset.spreadingactivation;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.util.PulseStatistics;
+import de.tuberlin.aset.spreadingactivation.util.TopActivations;
 
 public interface AbortCondition {
 
 	boolean shouldAbort(Execution execution, Context context);
 
+	public static final class Default {
+
+		public static final ConvergedAbortCondition CONVERGED(double epsilon) {
+			return new ConvergedAbortCondition(epsilon, false);
+		}
+
+		public static final ConvergedAbortCondition CONVERGED_MAXIMUM(double epsilon) {
+			return new ConvergedAbortCondition(epsilon, true);
+		}
+
+		public static final class ConvergedAbortCondition implements AbortCondition {
+
+			private final double epsilon;
+			private final boolean maximum;
+
+			private ConvergedAbortCondition(double epsilon, boolean maximum) {
+				this.epsilon = epsilon;
+				this.maximum = maximum;
+			}
+
+			@Override
+			public boolean shouldAbort(Execution execution, Context context) {
+				PulseStatistics statistics = context.statistics(context.pulse());
+				if (statistics == null) {
+					return false;
+				}
+				return (maximum ? statistics.deltaMaximum() : statistics.deltaSum()) <= epsilon;
+			}
+
+			public double getEpsilon() {
+				return epsilon;
+			}
+
+			public boolean isMaximum() {
+				return maximum;
+			}
+
+		}
+
+		public static final TopStableAbortCondition TOP_STABLE(int limit) {
+			return new TopStableAbortCondition(limit);
+		}
+
+		public static final class TopStableAbortCondition implements AbortCondition {
+
+			private final int limit;
+			private final Map<Execution, int[]> lastTopVertices = Collections.synchronizedMap(new WeakHashMap<>());
+
+			private TopStableAbortCondition(int limit) {
+				if (limit < 1) {
+					throw new IllegalArgumentException("limit has to be positive");
+				}
+				this.limit = limit;
+			}
+
+			@Override
+			public boolean shouldAbort(Execution execution, Context context) {
+				int pulse = context.pulse();
+				TopActivations topActivations = new TopActivations(limit);
+				Iterator<Vertex> vertices = context.activeVertices();
+				while (vertices.hasNext()) {
+					Vertex vertex = vertices.next();
+					topActivations.offer(context.vertexIndex(vertex), context.vertexActivation(vertex, pulse));
+				}
+				int[] topVertices = topActivations.drain();
+				Arrays.sort(topVertices);
+				int[] lastTopVertices = this.lastTopVertices.put(execution, topVertices);
+				return Arrays.equals(lastTopVertices, topVertices);
+			}
+
+			public int getLimit() {
+				return limit;
+			}
+
+		}
+
+		public static final MaximumEdgesAbortCondition MAXIMUM_EDGES(long edgeBudget) {
+			return new MaximumEdgesAbortCondition(edgeBudget);
+		}
+
+		public static final class MaximumEdgesAbortCondition implements AbortCondition {
+
+			private final long edgeBudget;
+
+			private MaximumEdgesAbortCondition(long edgeBudget) {
+				if (edgeBudget < 1) {
+					throw new IllegalArgumentException("budget has to be positive");
+				}
+				this.edgeBudget = edgeBudget;
+			}
+
+			@Override
+			public boolean shouldAbort(Execution execution, Context context) {
+				PulseStatistics statistics = context.statistics(context.pulse());
+				return statistics != null && statistics.totalProcessedEdges() >= edgeBudget;
+			}
+
+			public long getEdgeBudget() {
+				return edgeBudget;
+			}
+
+		}
+
+		public static final DeadlineAbortCondition DEADLINE(Duration timeout) {
+			return new DeadlineAbortCondition(timeout);
+		}
+
+		public static final class DeadlineAbortCondition implements AbortCondition {
+
+			private final Duration timeout;
+
+			private DeadlineAbortCondition(Duration timeout) {
+				this.timeout = timeout;
+			}
+
+			@Override
+			public boolean shouldAbort(Execution execution, Context context) {
+				PulseStatistics statistics = context.statistics(context.pulse());
+				return statistics != null && statistics.totalElapsedNanos() >= timeout.toNanos();
+			}
+
+			public Duration getTimeout() {
+				return timeout;
+			}
+
+		}
+
+		public static final TargetsReachedAbortCondition TARGETS_REACHED(Object... vertexIds) {
+			return new TargetsReachedAbortCondition(Double.MIN_VALUE, vertexIds);
+		}
+
+		public static final TargetsReachedAbortCondition TARGETS_REACHED(Collection<?> vertexIds,
+				double minimumActivation) {
+			return new TargetsReachedAbortCondition(minimumActivation, vertexIds.toArray());
+		}
+
+		public static final class TargetsReachedAbortCondition implements AbortCondition {
+
+			private final double minimumActivation;
+			private final Object[] vertexIds;
+			private final Map<Execution, List<Vertex>> targets = Collections.synchronizedMap(new WeakHashMap<>());
+
+			private TargetsReachedAbortCondition(double minimumActivation, Object... vertexIds) {
+				this.minimumActivation = minimumActivation;
+				this.vertexIds = vertexIds.clone();
+			}
+
+			@Override
+			public boolean shouldAbort(Execution execution, Context context) {
+				if (vertexIds.length == 0) {
+					return false;
+				}
+				List<Vertex> targets = this.targets.computeIfAbsent(execution,
+						key -> context.traversal().V(vertexIds).toList());
+				if (targets.isEmpty()) {
+					return false;
+				}
+				for (Vertex target : targets) {
+					if (context.vertexActivation(target, context.pulse()) < minimumActivation) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			public double getMinimumActivation() {
+				return minimumActivation;
+			}
+
+			public Object[] getVertexIds() {
+				return vertexIds.clone();
+			}
+
+		}
+
+	}
+
 }
@@ -31,4 +31,4 @@ public interface Configuration {
 
 	Execution.Builder execution(GraphTraversalSource traversal);
 
-}
\ No newline at end of file
+}
\ No newline at end of file
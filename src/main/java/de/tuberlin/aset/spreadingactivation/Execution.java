@@ -1,47 +1,185 @@
 package de.tuberlin.aset.spreadingactivation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 
+import de.tuberlin.aset.spreadingactivation.compiled.CompiledEngine;
+import de.tuberlin.aset.spreadingactivation.compiled.CompiledGraph;
+import de.tuberlin.aset.spreadingactivation.mode.ActivationMode;
+import de.tuberlin.aset.spreadingactivation.mode.EdgeFilter;
+import de.tuberlin.aset.spreadingactivation.mode.EdgeTemplate;
+import de.tuberlin.aset.spreadingactivation.mode.SendMode;
+import de.tuberlin.aset.spreadingactivation.mode.SpreadingMode;
+import de.tuberlin.aset.spreadingactivation.plan.ConfigurationPlan;
+import de.tuberlin.aset.spreadingactivation.plan.ActivationIndex;
+import de.tuberlin.aset.spreadingactivation.plan.ModeTable;
+import de.tuberlin.aset.spreadingactivation.plan.PropertyProjection;
+import de.tuberlin.aset.spreadingactivation.plan.TypeIndex;
+import de.tuberlin.aset.spreadingactivation.plan.TraversalTemplates;
+import de.tuberlin.aset.spreadingactivation.store.ActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.BufferedActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.PropertyActivationStore;
+import de.tuberlin.aset.spreadingactivation.util.BatchSizer;
+import de.tuberlin.aset.spreadingactivation.util.ElementRegistry;
 import de.tuberlin.aset.spreadingactivation.util.ExecutorQueue;
+import de.tuberlin.aset.spreadingactivation.util.ForkJoinPhaseScheduler;
+import de.tuberlin.aset.spreadingactivation.util.GraphStatistics;
+import de.tuberlin.aset.spreadingactivation.util.ModeCache;
+import de.tuberlin.aset.spreadingactivation.util.PhaseScheduler;
+import de.tuberlin.aset.spreadingactivation.util.PulseActivity;
+import de.tuberlin.aset.spreadingactivation.util.PulseStatistics;
 import de.tuberlin.aset.spreadingactivation.util.RunnableProcess;
+import de.tuberlin.aset.spreadingactivation.util.VirtualThreads;
 
 public final class Execution extends RunnableProcess {
 
+	private static final int DEFAULT_VIRTUAL_THREAD_TASKS = 1024;
+	private static final double DEFAULT_DIRECTION_THRESHOLD = 0.05d;
+
 	private final GraphTraversalSource traversal;
 
 	private final ExecutorService executor;
 	private final Integer parallelTasks;
+	private final Scheduling scheduling;
+	private final BatchSizer startingVertexBatches;
+	private final BatchSizer edgeBatches;
+	private final BatchSizer vertexBatches;
 
 	private final Context context;
 	private final PropertyKeyFactory propertyKeyFactory;
 
+	private final CompiledEngine compiledEngine;
+	private final ActivationStore activationStore;
+	private final BufferedActivationStore bufferedActivationStore;
+	private final ActivationStore activationWrites;
+	private final BatchSizer commitBatches = new BatchSizer(1);
+	private final Accumulation accumulation;
+	private final double directionThreshold;
+	private final List<Accumulation> pulseAccumulations = new ArrayList<>();
+	private final List<Double> pulseMinimumActivations = new ArrayList<>();
+	private final List<PulseStatistics> pulseStatistics = new ArrayList<>();
+	private final DoubleAdder activationSum = new DoubleAdder();
+	private final DoubleAdder deltaSum = new DoubleAdder();
+	private final DoubleAccumulator deltaMaximum = new DoubleAccumulator(Math::max, 0d);
+	private final LongAdder processedEdges = new LongAdder();
+	private Accumulation pulseAccumulation;
+	private final RetentionPolicy retentionPolicy;
+	private final GraphStatistics graphStatistics;
+	private final PropertyProjection projection = new PropertyProjection();
+	private final TraversalTemplates traversalTemplates;
+	private final Collection<String> projectedVertexProperties;
+	private final Collection<String> projectedEdgeProperties;
+	private final boolean projectedTypes;
+	private final PulseActivity pulseActivity;
+	private final ElementRegistry<Vertex> vertexRegistry = new ElementRegistry<>();
+	private final ElementRegistry<Edge> edgeRegistry = new ElementRegistry<>();
+
 	private int pulse = 0;
+	private int activePulse = 0;
+	private ActivationIndex activationIndex;
+
+	private Set<Vertex> activeVertices = ConcurrentHashMap.newKeySet();
+	private Set<Vertex> nextActiveVertices = ConcurrentHashMap.newKeySet();
+	private final Set<Vertex> receivingVertices = ConcurrentHashMap.newKeySet();
+	private final Map<Vertex, DoubleAdder> inputActivations = new ConcurrentHashMap<>();
+	private final List<Vertex> startingVertices = new ArrayList<>();
+	private final List<Vertex> frontier = new ArrayList<>();
+	private final List<EdgeBatch> submittedEdgeBatches = new ArrayList<>();
+	private final List<EdgeBatch> spareEdgeBatches = new ArrayList<>();
 
 	private Execution(Builder builder) {
 		this.traversal = builder.traversal;
 		this.executor = builder.executor;
 		this.parallelTasks = builder.parallelTasks;
+		this.scheduling = builder.scheduling != null ? builder.scheduling : Scheduling.QUEUE;
+		if (scheduling == Scheduling.VIRTUAL_THREADS && !VirtualThreads.isSupported()) {
+			throw new UnsupportedOperationException("virtual threads require Java 21");
+		}
+		this.startingVertexBatches = new BatchSizer(builder.batchSize);
+		this.edgeBatches = new BatchSizer(builder.batchSize);
+		this.vertexBatches = new BatchSizer(builder.batchSize);
 		this.propertyKeyFactory = builder.propertyKeyFactory != null ? builder.propertyKeyFactory
 				: new DefaultPropertyKeyFactory(UUID.randomUUID().toString());
+		this.accumulation = builder.accumulation != null ? builder.accumulation : Accumulation.PUSH;
+		this.directionThreshold = builder.directionThreshold != null ? builder.directionThreshold
+				: DEFAULT_DIRECTION_THRESHOLD;
+		if (directionThreshold < 0d || Double.isNaN(directionThreshold)) {
+			throw new IllegalArgumentException("direction threshold has to be non-negative");
+		}
+		this.retentionPolicy = builder.retentionPolicy != null ? builder.retentionPolicy
+				: RetentionPolicy.Default.ALL;
+		this.graphStatistics = builder.graphStatistics != null ? builder.graphStatistics
+				: new GraphStatistics(traversal);
+		this.projectedVertexProperties = new ArrayList<>(builder.projectedVertexProperties);
+		this.projectedEdgeProperties = new ArrayList<>(builder.projectedEdgeProperties);
+		this.projectedTypes = builder.projectedTypes;
+		this.traversalTemplates = new TraversalTemplates(traversal);
 
 		this.context = new Context(builder.configuration, this);
+
+		if (builder.compiledGraph != null) {
+			this.compiledEngine = new CompiledEngine(builder.compiledGraph, builder.configuration, context);
+		} else if (builder.compiled) {
+			this.compiledEngine = new CompiledEngine(CompiledGraph.compile(traversal), builder.configuration, context);
+		} else {
+			this.compiledEngine = null;
+		}
+
+		boolean basicSendModes = context.plan.sendModes().modes().stream()
+				.allMatch(sendMode -> sendMode == SendMode.Default.BASIC);
+		this.pulseActivity = compiledEngine == null && !basicSendModes ? new PulseActivity() : null;
+
+		if (compiledEngine != null) {
+			this.activationStore = compiledEngine.activations();
+		} else if (builder.activationStore != null) {
+			this.activationStore = builder.activationStore;
+		} else {
+			this.activationStore = new PropertyActivationStore(propertyKeyFactory,
+					retentionPolicy != RetentionPolicy.Default.ALL);
+		}
+
+		if (compiledEngine == null && builder.bufferedWrites) {
+			this.bufferedActivationStore = new BufferedActivationStore(activationStore, traversal.getGraph());
+			this.activationWrites = bufferedActivationStore;
+		} else {
+			this.bufferedActivationStore = null;
+			this.activationWrites = activationStore;
+		}
 	}
 
 	public ExecutionResult getResult() {
-		return ExecutionResult.build(traversal, propertyKeyFactory).pulse(pulse).create();
+		return ExecutionResult.build(traversal, propertyKeyFactory).activationStore(activationStore).pulse(pulse)
+				.accumulations(pulseAccumulations).directionThreshold(directionThreshold)
+				.minimumActivations(pulseMinimumActivations).statistics(pulseStatistics).create();
+	}
+
+	public boolean isCompiled() {
+		return compiledEngine != null;
 	}
 
 	public void activate(GraphTraversal<?, Vertex> vertexFilter, double value) {
@@ -49,14 +187,29 @@ public final class Execution extends RunnableProcess {
 			throw new IllegalStateException("execution already started");
 		}
 		if (isValidActivation(value)) {
-			traversal.V().filter(vertexFilter)
-					.property(Cardinality.single, propertyKeyFactory.vertexActivationKey(0), value).iterate();
+			Iterator<Vertex> vertices = traversal.V().filter(vertexFilter);
+			while (vertices.hasNext()) {
+				activate(vertices.next(), value);
+			}
 		}
 	}
 
 	public void activate(GraphTraversal<Vertex, Double> activationTraversal) {
-		traversal.V().property(Cardinality.single, propertyKeyFactory.vertexActivationKey(0), activationTraversal)
-				.iterate();
+		Iterator<Map<String, Object>> activations = traversal.V().project("vertex", "activation").by()
+				.by(activationTraversal);
+		while (activations.hasNext()) {
+			Map<String, Object> activation = activations.next();
+			activate((Vertex) activation.get("vertex"), ((Number) activation.get("activation")).doubleValue());
+		}
+	}
+
+	private void activate(Vertex vertex, double value) {
+		if (compiledEngine != null) {
+			compiledEngine.activate(vertex, value);
+		} else {
+			activationStore.setVertexActivation(vertex, 0, value);
+			activeVertices.add(vertex);
+		}
 	}
 
 	@Override
@@ -64,24 +217,52 @@ public final class Execution extends RunnableProcess {
 		checkFinished();
 		started();
 
+		int parallelTasks = this.parallelTasks != null ? this.parallelTasks
+				: scheduling == Scheduling.VIRTUAL_THREADS ? DEFAULT_VIRTUAL_THREAD_TASKS
+						: Runtime.getRuntime().availableProcessors();
+
 		ExecutorService executor = this.executor;
-		if (this.executor == null) {
-			executor = Executors.newCachedThreadPool();
+		PhaseScheduler scheduler;
+		if (scheduling == Scheduling.FORK_JOIN) {
+			if (!(executor instanceof ForkJoinPool)) {
+				executor = new ForkJoinPool(parallelTasks);
+			}
+			scheduler = new ForkJoinPhaseScheduler((ForkJoinPool) executor);
+		} else if (scheduling == Scheduling.VIRTUAL_THREADS) {
+			executor = VirtualThreads.newExecutor();
+			scheduler = new ExecutorQueue(executor, parallelTasks);
+		} else {
+			if (executor == null) {
+				executor = Executors.newCachedThreadPool();
+			}
+			scheduler = new ExecutorQueue(executor, parallelTasks);
 		}
 
-		int parallelTasks = this.parallelTasks != null ? this.parallelTasks
-				: Runtime.getRuntime().availableProcessors();
+		long startTime = System.nanoTime();
+		try {
+			project();
 
-		ExecutorQueue queue = new ExecutorQueue(executor, parallelTasks);
+			int completedPulse = pulse;
+			retentionPolicy.pulseCompleted(context, completedPulse);
 
-		try {
 			pulseLoop: while (!this.isInterrupted() && pulse < context.pulses()) {
 				pulse++;
-				if (calculateOutputActivationAndEdgeActivation(queue, pulse)) {
-					queue.awaitCompleted();
-
-					if (calculateInputActivationAndVertexActivation(queue, pulse)) {
-						queue.awaitCompleted();
+				long pulseStartTime = System.nanoTime();
+				if (compiledEngine != null) {
+					if (!compiledEngine.pulse(pulse)) {
+						break pulseLoop;
+					}
+					pulseAccumulation(pulse, Accumulation.PUSH);
+					activePulse = pulse;
+				} else if (calculateOutputActivationAndEdgeActivation(scheduler, pulse)) {
+					scheduler.awaitPhase();
+					releaseEdgeBatches();
+					commitActivations(scheduler);
+
+					if (calculateInputActivationAndVertexActivation(scheduler, pulse)) {
+						scheduler.awaitPhase();
+						commitActivations(scheduler);
+						swapActiveVertices();
 					} else {
 						break pulseLoop;
 					}
@@ -89,6 +270,10 @@ public final class Execution extends RunnableProcess {
 					break pulseLoop;
 				}
 
+				completedPulse = pulse;
+				pulseStatistics(pulse, pulseStartTime, startTime);
+				retentionPolicy.pulseCompleted(context, completedPulse);
+
 				if (this.isInterrupted()) {
 					break pulseLoop;
 				}
@@ -99,168 +284,270 @@ public final class Execution extends RunnableProcess {
 					}
 				}
 			}
-			queue.awaitCompleted();
+			scheduler.awaitPhase();
+			commitActivations(scheduler);
+
+			retentionPolicy.executionFinished(context, completedPulse);
 
 		} catch (Exception e) {
 			throw new RuntimeException("exception in pulse " + pulse, e);
 		} finally {
-			if (this.executor == null) {
+			if (executor != this.executor) {
 				executor.shutdown();
 			}
+			traversalTemplates.clear();
 			finished();
 		}
 	}
 
-	private boolean calculateOutputActivationAndEdgeActivation(ExecutorQueue queue, int pulse) {
-		Iterator<Vertex> startingVertices = context.startingVertices();
-
-		if (!startingVertices.hasNext()) {
-			return false;
+	private void commitActivations(PhaseScheduler scheduler) throws InterruptedException, ExecutionException {
+		if (bufferedActivationStore == null) {
+			return;
 		}
+		if (bufferedActivationStore.isTransactional()) {
+			bufferedActivationStore.commit();
+		} else {
+			scheduler.submit(bufferedActivationStore.stripes(), commitBatches, bufferedActivationStore::apply);
+			scheduler.awaitPhase();
+		}
+	}
 
-		String lastVertexActivationKey = propertyKeyFactory.vertexActivationKey(pulse - 1);
-		String outputActivationKey = propertyKeyFactory.outputActivationKey(pulse);
-		String edgeActivationKeyWithDirection = propertyKeyFactory.edgeActivationKey(pulse, true);
-		String edgeActivationKeyOppositeDirection = propertyKeyFactory.edgeActivationKey(pulse, false);
-
-		queue.submit(new Iterator<Runnable>() {
+	private void pulseStatistics(int pulse, long pulseStartTime, long startTime) {
+		long endTime = System.nanoTime();
+		PulseStatistics lastStatistics = pulseStatistics.isEmpty() ? null
+				: pulseStatistics.get(pulseStatistics.size() - 1);
+		long totalProcessedEdges = lastStatistics != null ? lastStatistics.totalProcessedEdges() : 0;
+		PulseStatistics statistics;
+		if (compiledEngine != null) {
+			statistics = new PulseStatistics(pulse, compiledEngine.activationSum(), compiledEngine.deltaSum(),
+					compiledEngine.deltaMaximum(), compiledEngine.activeVertexCount(), compiledEngine.processedEdges(),
+					totalProcessedEdges + compiledEngine.processedEdges(), endTime - pulseStartTime,
+					endTime - startTime);
+		} else {
+			long edges = processedEdges.sumThenReset();
+			statistics = new PulseStatistics(pulse, activationSum.sumThenReset(), deltaSum.sumThenReset(),
+					deltaMaximum.getThenReset(), activeVertices.size(), edges, totalProcessedEdges + edges,
+					endTime - pulseStartTime, endTime - startTime);
+		}
+		while (pulseStatistics.size() < pulse) {
+			pulseStatistics.add(null);
+		}
+		pulseStatistics.add(statistics);
+	}
 
-			@Override
-			public boolean hasNext() {
-				return startingVertices.hasNext();
-			}
+	private void project() {
+		for (String propertyKey : projectedVertexProperties) {
+			projection.vertexColumn(context, propertyKey);
+		}
+		for (String propertyKey : projectedEdgeProperties) {
+			projection.edgeColumn(context, propertyKey);
+		}
+		if (projectedTypes) {
+			projection.projectTypes(context, context.plan);
+		}
+	}
 
-			@Override
-			public Runnable next() {
-				Vertex fromVertex = startingVertices.next();
-				return new Runnable() {
+	private boolean calculateOutputActivationAndEdgeActivation(PhaseScheduler scheduler, int pulse) {
+		startingVertices.clear();
+		Iterator<Vertex> vertices = context.startingVertices();
+		while (vertices.hasNext()) {
+			startingVertices.add(vertices.next());
+		}
 
-					@Override
-					public void run() {
-						double outputActivation = activation(fromVertex, lastVertexActivationKey);
-						outputActivation *= context.attenuation(fromVertex);
+		if (startingVertices.isEmpty()) {
+			return false;
+		}
+		pulseAccumulation(pulse, accumulation(startingVertices));
 
-						if (isValidActivation(outputActivation)) {
-							outputActivation *= context.branch(fromVertex);
-							if (isValidActivation(outputActivation)) {
-								setPropertyValue(fromVertex, outputActivationKey, outputActivation);
+		scheduler.submit(startingVertices, startingVertexBatches, fromVertex -> {
+			double outputActivation = activationStore.vertexActivation(fromVertex, pulse - 1);
+			outputActivation *= context.attenuation(fromVertex);
 
-								calculateEdgeActivation(queue, pulse, fromVertex, outputActivation,
-										edgeActivationKeyWithDirection, edgeActivationKeyOppositeDirection);
-							}
-						}
-					}
+			if (isValidActivation(outputActivation)) {
+				outputActivation *= context.branch(fromVertex);
+				if (isValidActivation(outputActivation)) {
+					activationWrites.setOutputActivation(fromVertex, pulse, outputActivation);
 
-				};
+					calculateEdgeActivation(scheduler, pulse, fromVertex, outputActivation);
+				}
 			}
 		});
 		return true;
 	}
 
-	private final void calculateEdgeActivation(ExecutorQueue queue, int pulse, Vertex fromVertex,
-			double outputActivation, String edgeActivationKeyWithDirection, String edgeActivationKeyOppositeDirection) {
-		Iterator<Edge> edges = context.allowedEdges(fromVertex);
-		queue.submit(new Iterator<Runnable>() {
+	private final void calculateEdgeActivation(PhaseScheduler scheduler, int pulse, Vertex fromVertex,
+			double outputActivation) {
+		List<Edge> edges = context.takeAllowedEdgeList(fromVertex);
+		processedEdges.add(edges.size());
+		if (edges.size() > edgeBatches.batchSize(edges.size())) {
+			scheduler.submit(edges, edgeBatches, edgeBatch(pulse, fromVertex, outputActivation, edges));
+			return;
+		}
+		long startTime = System.nanoTime();
+		for (int i = 0; i < edges.size(); i++) {
+			calculateEdgeActivation(pulse, fromVertex, outputActivation, edges.get(i));
+		}
+		edgeBatches.measured(edges.size(), System.nanoTime() - startTime);
+		context.releaseAllowedEdgeList(edges);
+	}
 
-			@Override
-			public boolean hasNext() {
-				return edges.hasNext();
+	private EdgeBatch edgeBatch(int pulse, Vertex fromVertex, double outputActivation, List<Edge> edges) {
+		EdgeBatch edgeBatch;
+		synchronized (submittedEdgeBatches) {
+			edgeBatch = !spareEdgeBatches.isEmpty() ? spareEdgeBatches.remove(spareEdgeBatches.size() - 1) : null;
+			if (edgeBatch == null) {
+				edgeBatch = new EdgeBatch();
 			}
+			submittedEdgeBatches.add(edgeBatch);
+		}
+		if (edgeBatch.edges != null) {
+			context.releaseAllowedEdgeList(edgeBatch.edges);
+		}
+		edgeBatch.pulse = pulse;
+		edgeBatch.fromVertex = fromVertex;
+		edgeBatch.outputActivation = outputActivation;
+		edgeBatch.edges = edges;
+		return edgeBatch;
+	}
 
-			@Override
-			public Runnable next() {
-				Edge edge = edges.next();
-				return new Runnable() {
-
-					@Override
-					public void run() {
-						boolean withDirection = edge.outVertex().equals(fromVertex);
-						double edgeActivation = outputActivation * context.edgeWeight(edge, withDirection);
-						if (isValidActivation(edgeActivation)) {
-							String edgeActivationKey = withDirection ? edgeActivationKeyWithDirection
-									: edgeActivationKeyOppositeDirection;
-							setPropertyValue(edge, edgeActivationKey, edgeActivation);
-						}
-
-					}
-				};
+	private void releaseEdgeBatches() {
+		synchronized (submittedEdgeBatches) {
+			for (EdgeBatch edgeBatch : submittedEdgeBatches) {
+				edgeBatch.fromVertex = null;
+				edgeBatch.edges.clear();
+				spareEdgeBatches.add(edgeBatch);
 			}
-		});
+			submittedEdgeBatches.clear();
+		}
 	}
 
-	private boolean calculateInputActivationAndVertexActivation(ExecutorQueue queue, int pulse) {
-		String lastVertexActivationKey = propertyKeyFactory.vertexActivationKey(pulse - 1);
-		String edgeActivationKeyWithDirection = propertyKeyFactory.edgeActivationKey(pulse, true);
-		String edgeActivationKeyOppositeDirection = propertyKeyFactory.edgeActivationKey(pulse, false);
-		Iterator<Vertex> vertexWithPreviousActivationOrEdgeActivation = traversal.V().or( //
-				__.has(lastVertexActivationKey), //
-				__.toE(Direction.BOTH).or( //
-						__.has(edgeActivationKeyWithDirection), //
-						__.has(edgeActivationKeyOppositeDirection) //
-				) //
-		);
+	private void calculateEdgeActivation(int pulse, Vertex fromVertex, double outputActivation, Edge edge) {
+		boolean withDirection = edge.outVertex().equals(fromVertex);
+		double edgeActivation = outputActivation * context.edgeWeight(edge, withDirection);
+		if (isValidActivation(edgeActivation)) {
+			activationWrites.setEdgeActivation(edge, pulse, withDirection, edgeActivation);
+			if (pulseActivity != null) {
+				pulseActivity.edgeActivated(edgeRegistry.index(edge), withDirection);
+			}
 
-		if (!vertexWithPreviousActivationOrEdgeActivation.hasNext()) {
-			return false;
+			Vertex toVertex = withDirection ? edge.inVertex() : edge.outVertex();
+			if (pulseAccumulation == Accumulation.PUSH) {
+				DoubleAdder inputActivation = inputActivations.get(toVertex);
+				if (inputActivation == null) {
+					inputActivation = inputActivations.computeIfAbsent(toVertex, vertex -> new DoubleAdder());
+				}
+				inputActivation.add(edgeActivation);
+			} else {
+				receivingVertices.add(toVertex);
+			}
 		}
+	}
 
-		String vertexActivationKey = propertyKeyFactory.vertexActivationKey(pulse);
-		String inputActivationKey = propertyKeyFactory.inputActivationKey(pulse);
-
-		queue.submit(new Iterator<Runnable>() {
-
-			@Override
-			public boolean hasNext() {
-				return vertexWithPreviousActivationOrEdgeActivation.hasNext();
+	private boolean calculateInputActivationAndVertexActivation(PhaseScheduler scheduler, int pulse) {
+		frontier.clear();
+		frontier.addAll(activeVertices);
+		for (Vertex vertex : receivingVertices) {
+			if (!activeVertices.contains(vertex)) {
+				frontier.add(vertex);
+			}
+		}
+		for (Vertex vertex : inputActivations.keySet()) {
+			if (!activeVertices.contains(vertex) && !receivingVertices.contains(vertex)) {
+				frontier.add(vertex);
 			}
+		}
+		receivingVertices.clear();
 
-			@Override
-			public Runnable next() {
-				Vertex toVertex = vertexWithPreviousActivationOrEdgeActivation.next();
-				return new Runnable() {
+		if (frontier.isEmpty()) {
+			return false;
+		}
 
-					@Override
-					public void run() {
-						double inputActivation = 0d;
-						inputActivation += traversal.V(toVertex.id()).toE(Direction.IN)
-								.values(edgeActivationKeyWithDirection).sum().tryNext().orElse(0d).doubleValue();
-						inputActivation += traversal.V(toVertex.id()).toE(Direction.OUT)
-								.values(edgeActivationKeyOppositeDirection).sum().tryNext().orElse(0d).doubleValue();
+		scheduler.submit(frontier, vertexBatches, toVertex -> {
+			double inputActivation = 0d;
+			if (pulseAccumulation == Accumulation.PUSH) {
+				DoubleAdder pushedActivation = inputActivations.get(toVertex);
+				if (pushedActivation != null) {
+					inputActivation = pushedActivation.sum();
+				}
+			} else {
+				inputActivation += sumEdgeActivations(toVertex.edges(Direction.IN), pulse, true);
+				inputActivation += sumEdgeActivations(toVertex.edges(Direction.OUT), pulse, false);
+			}
 
-						if (isValidActivation(inputActivation)) {
-							setPropertyValue(toVertex, inputActivationKey, inputActivation);
-						}
-						double lastVertexActivation = activation(toVertex, lastVertexActivationKey);
-						double vertexActivation = context.activation(toVertex, inputActivation + lastVertexActivation);
-						if (isValidActivation(vertexActivation)) {
-							setPropertyValue(toVertex, vertexActivationKey, vertexActivation);
-						}
-					}
-				};
+			if (isValidActivation(inputActivation)) {
+				activationWrites.setInputActivation(toVertex, pulse, inputActivation);
+				if (pulseActivity != null) {
+					pulseActivity.vertexReceived(vertexRegistry.index(toVertex));
+				}
+			}
+			double lastVertexActivation = activationStore.vertexActivation(toVertex, pulse - 1);
+			double vertexActivation = context.activation(toVertex, inputActivation + lastVertexActivation);
+			if (isValidActivation(vertexActivation)) {
+				activationWrites.setVertexActivation(toVertex, pulse, vertexActivation);
+				nextActiveVertices.add(toVertex);
+			} else {
+				vertexActivation = 0d;
 			}
+			double delta = Math.abs(vertexActivation - lastVertexActivation);
+			activationSum.add(vertexActivation);
+			deltaSum.add(delta);
+			deltaMaximum.accumulate(delta);
 		});
 		return true;
 	}
 
-	private boolean isValidActivation(double value) {
-		return !Double.isInfinite(value) && !Double.isNaN(value) && value > 0d;
+	private Accumulation accumulation(List<Vertex> startingVertices) {
+		if (accumulation != Accumulation.ADAPTIVE) {
+			return accumulation;
+		}
+		return frontierShare(startingVertices) > directionThreshold ? Accumulation.PULL : Accumulation.PUSH;
 	}
 
-	private void setPropertyValue(Element element, String key, Object value) {
-//		if (element.property(key).isPresent()) {
-//			throw new IllegalStateException("element " + element + ": property " + key + " already present");
-//		} else {
-		if (element instanceof Vertex) {
-			Vertex vertex = (Vertex) element;
-			vertex.property(Cardinality.single, key, value);
-		} else {
-			element.property(key, value);
+	private double frontierShare(List<Vertex> startingVertices) {
+		long vertexCount = graphStatistics.vertexCount();
+		long edgeCount = graphStatistics.edgeCount();
+		double vertexShare = vertexCount > 0 ? (double) startingVertices.size() / vertexCount : 0d;
+		if (vertexShare > directionThreshold || edgeCount == 0) {
+			return vertexShare;
+		}
+		long degrees = 0;
+		for (int i = 0; i < startingVertices.size(); i++) {
+			degrees += graphStatistics.degree(startingVertices.get(i));
+		}
+		return Math.max(vertexShare, degrees / (2d * edgeCount));
+	}
+
+	private void pulseAccumulation(int pulse, Accumulation accumulation) {
+		while (pulseAccumulations.size() <= pulse) {
+			pulseAccumulations.add(null);
+		}
+		pulseAccumulations.set(pulse, accumulation);
+		pulseAccumulation = accumulation;
+	}
+
+	private double sumEdgeActivations(Iterator<Edge> edges, int pulse, boolean withDirection) {
+		double sum = 0d;
+		while (edges.hasNext()) {
+			sum += activationStore.edgeActivation(edges.next(), pulse, withDirection);
 		}
-//		}
+		return sum;
 	}
 
-	private double activation(Vertex vertex, String propertyKey) {
-		return (double) vertex.property(propertyKey).orElse(0d);
+	private void swapActiveVertices() {
+		inputActivations.clear();
+		if (pulseActivity != null) {
+			pulseActivity.nextPulse();
+		}
+
+		activePulse = pulse;
+		Set<Vertex> lastActiveVertices = activeVertices;
+		activeVertices = nextActiveVertices;
+		nextActiveVertices = lastActiveVertices;
+		nextActiveVertices.clear();
+	}
+
+	private boolean isValidActivation(double value) {
+		return !Double.isInfinite(value) && !Double.isNaN(value) && value > 0d;
 	}
 
 	public static Builder build(Configuration configuration, GraphTraversalSource traversal) {
@@ -274,9 +561,24 @@ public final class Execution extends RunnableProcess {
 
 		private ExecutorService executor;
 		private Integer parallelTasks;
+		private Scheduling scheduling;
+		private Integer batchSize;
 
 		private PropertyKeyFactory propertyKeyFactory;
 
+		private boolean compiled = false;
+		private CompiledGraph compiledGraph;
+
+		private ActivationStore activationStore;
+		private boolean bufferedWrites = false;
+		private Accumulation accumulation;
+		private Double directionThreshold;
+		private RetentionPolicy retentionPolicy;
+		private GraphStatistics graphStatistics;
+		private Collection<String> projectedVertexProperties = new ArrayList<>();
+		private Collection<String> projectedEdgeProperties = new ArrayList<>();
+		private boolean projectedTypes = false;
+
 		private Builder(Configuration configuration, GraphTraversalSource traversal) {
 			this.configuration = configuration;
 			this.traversal = traversal;
@@ -292,25 +594,119 @@ public final class Execution extends RunnableProcess {
 			return this;
 		}
 
+		public Builder scheduling(Scheduling scheduling) {
+			this.scheduling = scheduling;
+			return this;
+		}
+
+		public Builder batchSize(Integer batchSize) {
+			this.batchSize = batchSize;
+			return this;
+		}
+
 		public Builder propertyKeyFactory(PropertyKeyFactory propertyKeyFactory) {
 			this.propertyKeyFactory = propertyKeyFactory;
 			return this;
 		}
 
+		public Builder activationStore(ActivationStore activationStore) {
+			this.activationStore = activationStore;
+			return this;
+		}
+
+		public Builder directionThreshold(Double directionThreshold) {
+			this.directionThreshold = directionThreshold;
+			return this;
+		}
+
+		public Builder bufferedWrites(boolean bufferedWrites) {
+			this.bufferedWrites = bufferedWrites;
+			return this;
+		}
+
+		public Builder accumulation(Accumulation accumulation) {
+			this.accumulation = accumulation;
+			return this;
+		}
+
+		public Builder retentionPolicy(RetentionPolicy retentionPolicy) {
+			this.retentionPolicy = retentionPolicy;
+			return this;
+		}
+
+		public Builder graphStatistics(GraphStatistics graphStatistics) {
+			this.graphStatistics = graphStatistics;
+			return this;
+		}
+
+		public Builder projectVertexProperties(String... propertyKeys) {
+			this.projectedVertexProperties.addAll(Arrays.asList(propertyKeys));
+			return this;
+		}
+
+		public Builder projectEdgeProperties(String... propertyKeys) {
+			this.projectedEdgeProperties.addAll(Arrays.asList(propertyKeys));
+			return this;
+		}
+
+		public Builder projectTypes(boolean projectedTypes) {
+			this.projectedTypes = projectedTypes;
+			return this;
+		}
+
+		public Builder compiled(boolean compiled) {
+			this.compiled = compiled;
+			return this;
+		}
+
+		public Builder compiledGraph(CompiledGraph compiledGraph) {
+			this.compiledGraph = compiledGraph;
+			return this;
+		}
+
 		public Execution create() {
 			return new Execution(this);
 		}
 
 	}
 
+	public static enum Accumulation {
+
+		PUSH, PULL, ADAPTIVE;
+
+	}
+
+	public static enum Scheduling {
+
+		QUEUE, FORK_JOIN, VIRTUAL_THREADS;
+
+	}
+
 	public final static class Context {
 
 		private final Configuration configuration;
 		private final Execution execution;
 
+		private final ConfigurationPlan plan;
+
+		private final ThreadLocal<AllowedEdges> recentAllowedEdges = ThreadLocal.withInitial(AllowedEdges::new);
+		private final ThreadLocal<ReceivedEdges> recentReceivedEdges = ThreadLocal.withInitial(ReceivedEdges::new);
+
+		private final ModeCache edgeWeights;
+		private final ModeCache branches;
+		private final ModeCache attenuations;
+
 		private Context(Configuration configuration, Execution execution) {
 			this.configuration = configuration;
 			this.execution = execution;
+			this.plan = ConfigurationPlan.compile(configuration);
+			this.edgeWeights = new ModeCache(configuration.edgeWeight());
+			this.branches = new ModeCache(configuration.branchMode());
+			this.attenuations = new ModeCache(configuration.attenuationMode());
+		}
+
+		public ConfigurationPlan plan() {
+			return plan;
 		}
 
 		public int pulses() {
@@ -326,34 +722,408 @@ public final class Execution extends RunnableProcess {
 		}
 
 		public Iterator<Vertex> startingVertices() {
-			return configuration.pulseInception().startingVertices(this);
+			ModeTable<Double> minimumActivations = plan.minimumActivations();
+			if (minimumActivations == null) {
+				return configuration.pulseInception().startingVertices(this);
+			}
+			ActivationIndex activationIndex = activationIndex(pulse() - 1);
+			if (!minimumActivations.isTyped()) {
+				return vertices(activationIndex, 0, activationIndex.count(minimumActivations.mode(pulse())));
+			}
+			TypeIndex typeIndex = minimumActivations.typeIndex();
+			activationIndex.partition(typeIndex, this::vertex);
+			Set<Vertex> startingVertices = new LinkedHashSet<>();
+			for (int typeId = 1; typeId < typeIndex.size(); typeId++) {
+				int start = activationIndex.typeStart(typeId);
+				int count = activationIndex.typeCount(typeId, minimumActivations.mode(pulse(), typeId));
+				for (int position = start; position < start + count; position++) {
+					startingVertices.add(vertex(activationIndex.typedVertex(position)));
+				}
+			}
+			return startingVertices.iterator();
+		}
+
+		public ActivationIndex activationIndex(int pulse) {
+			ActivationIndex activationIndex = execution.activationIndex;
+			if (activationIndex != null && activationIndex.pulse() == pulse) {
+				return activationIndex;
+			}
+			if (execution.compiledEngine != null) {
+				activationIndex = execution.compiledEngine.activationIndex(pulse);
+			} else if (pulse == execution.activePulse) {
+				activationIndex = activationIndex(pulse, execution.activeVertices.iterator());
+			} else {
+				ActivationStore activationStore = execution.activationStore;
+				activationIndex = activationIndex(pulse,
+						activationStore.activatedVertices(execution.traversal, pulse, Double.NEGATIVE_INFINITY));
+			}
+			if (pulse <= execution.activePulse) {
+				execution.activationIndex = activationIndex;
+			}
+			return activationIndex;
+		}
+
+		private ActivationIndex activationIndex(int pulse, Iterator<Vertex> vertices) {
+			int[] indices = new int[16];
+			double[] activations = new double[16];
+			int size = 0;
+			while (vertices.hasNext()) {
+				Vertex vertex = vertices.next();
+				if (size == indices.length) {
+					indices = Arrays.copyOf(indices, size * 2);
+					activations = Arrays.copyOf(activations, size * 2);
+				}
+				indices[size] = vertexIndex(vertex);
+				activations[size] = vertexActivation(vertex, pulse);
+				size++;
+			}
+			return new ActivationIndex(pulse, indices, activations, size);
+		}
+
+		private Iterator<Vertex> vertices(ActivationIndex activationIndex, int start, int count) {
+			return IntStream.range(start, start + count).mapToObj(position -> vertex(activationIndex.vertex(position)))
+					.iterator();
 		}
 
 		public GraphTraversal<?, Edge> allowedEdges(Vertex vertex) {
+			return allowedEdges(vertex, configuration.sendMode());
+		}
+
+		public GraphTraversal<?, Edge> allowedEdges(Vertex vertex, SendMode sendMode) {
+			if (sendMode instanceof EdgeTemplate) {
+				return execution.traversalTemplates.allowedEdges(this, (EdgeTemplate) sendMode, vertex);
+			}
+			boolean propertyActivations = execution.activationStore instanceof PropertyActivationStore;
+			if (!propertyActivations && traversalSendMode(sendMode) == null) {
+				List<Edge> allowedEdges = new ArrayList<>();
+				basicAllowedEdges(vertex, edgeFilter(sendMode), allowedEdges);
+				return execution.traversal.inject(allowedEdges.toArray(new Edge[allowedEdges.size()]));
+			}
 			return execution.traversal.V(vertex.id()).toE(Direction.BOTH)
-					.filter(configuration.sendMode().allowedEdges(this, vertex)).dedup();
+					.filter(sendMode.allowedEdges(this, vertex)).dedup();
+		}
+
+		public List<Edge> allowedEdgeList(Vertex vertex) {
+			AllowedEdges allowedEdges = recentAllowedEdges.get();
+			if (allowedEdges.pulse != pulse() || !vertex.equals(allowedEdges.vertex)) {
+				allowedEdges.edges.clear();
+				SendMode sendMode = vertexMode(plan.sendModes(), vertex);
+				EdgeFilter edgeFilter = edgeFilter(sendMode);
+				SendMode traversalSendMode = traversalSendMode(sendMode);
+				if (traversalSendMode == null) {
+					basicAllowedEdges(vertex, edgeFilter, allowedEdges.edges);
+				} else if (edgeFilter != null) {
+					basicAllowedEdges(vertex, edgeFilter, allowedEdges.edges);
+					if (!allowedEdges.edges.isEmpty()) {
+						retainAllowedEdges(vertex, traversalSendMode, allowedEdges.edges);
+					}
+				} else {
+					allowedEdges(vertex, sendMode).fill(allowedEdges.edges);
+				}
+				allowedEdges.pulse = pulse();
+				allowedEdges.vertex = vertex;
+			}
+			return allowedEdges.edges;
+		}
+
+		private List<Edge> takeAllowedEdgeList(Vertex vertex) {
+			List<Edge> edges = allowedEdgeList(vertex);
+			AllowedEdges allowedEdges = recentAllowedEdges.get();
+			allowedEdges.vertex = null;
+			allowedEdges.edges = allowedEdges.spareEdges != null ? allowedEdges.spareEdges : new ArrayList<>();
+			allowedEdges.spareEdges = null;
+			return edges;
+		}
+
+		private void releaseAllowedEdgeList(List<Edge> edges) {
+			edges.clear();
+			recentAllowedEdges.get().spareEdges = edges;
+		}
+
+		private void basicAllowedEdges(Vertex vertex, EdgeFilter edgeFilter, List<Edge> allowedEdges) {
+			int vertexIndex = edgeFilter != null ? vertexIndex(vertex) : -1;
+			Iterator<Edge> edges = vertex.edges(Direction.BOTH);
+			while (edges.hasNext()) {
+				Edge edge = edges.next();
+				if (edge.outVertex().equals(edge.inVertex()) && allowedEdges.contains(edge)) {
+					continue;
+				}
+				if (edgeFilter == null
+						|| edgeFilter.test(this, vertexIndex, edgeIndex(edge), edge.outVertex().equals(vertex))) {
+					allowedEdges.add(edge);
+				}
+			}
+		}
+
+		private static EdgeFilter edgeFilter(SendMode sendMode) {
+			if (sendMode instanceof SpreadingMode) {
+				return ((SpreadingMode) sendMode).getEdgeFilter();
+			}
+			if (sendMode instanceof EdgeFilter) {
+				return (EdgeFilter) sendMode;
+			}
+			return null;
+		}
+
+		private static SendMode traversalSendMode(SendMode sendMode) {
+			if (sendMode instanceof SpreadingMode) {
+				return ((SpreadingMode) sendMode).getTraversalSendMode();
+			}
+			if (sendMode == SendMode.Default.BASIC || sendMode instanceof EdgeFilter) {
+				return null;
+			}
+			return sendMode;
+		}
+
+		private <MODE> MODE vertexMode(ModeTable<MODE> modes, Vertex vertex) {
+			return modes.mode(pulse(), modes.isTyped() ? vertexIndex(vertex) : -1, vertex);
+		}
+
+		private <MODE> MODE edgeMode(ModeTable<MODE> modes, Edge edge) {
+			return modes.mode(pulse(), modes.isTyped() ? edgeIndex(edge) : -1, edge);
+		}
+
+		private void retainAllowedEdges(Vertex vertex, SendMode sendMode, List<Edge> allowedEdges) {
+			Set<Object> allowedIds = new HashSet<>();
+			GraphTraversal<?, Edge> edges = allowedEdges(vertex, sendMode);
+			while (edges.hasNext()) {
+				allowedIds.add(edges.next().id());
+			}
+			allowedEdges.removeIf(edge -> !allowedIds.contains(edge.id()));
+		}
+
+		public double vertexProperty(int vertex, String propertyKey) {
+			return vertex >= 0 ? execution.projection.vertexColumn(this, propertyKey).get(vertex) : Double.NaN;
+		}
+
+		public double vertexProperty(Vertex vertex, String propertyKey) {
+			return vertexProperty(vertexIndex(vertex), propertyKey);
+		}
+
+		public double edgeProperty(int edge, String propertyKey) {
+			return edge >= 0 ? execution.projection.edgeColumn(this, propertyKey).get(edge) : Double.NaN;
+		}
+
+		public double edgeProperty(Edge edge, String propertyKey) {
+			return edgeProperty(edgeIndex(edge), propertyKey);
+		}
+
+		public int vertexIndex(Vertex vertex) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().vertexIndex(vertex.id());
+			}
+			return execution.vertexRegistry.index(vertex);
+		}
+
+		public int edgeIndex(Edge edge) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().edgeIndex(edge.id());
+			}
+			return execution.edgeRegistry.index(edge);
+		}
+
+		public Vertex vertex(int vertex) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().vertex(vertex);
+			}
+			return execution.vertexRegistry.element(vertex);
+		}
+
+		public Edge edge(int edge) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().edge(edge);
+			}
+			return execution.edgeRegistry.element(edge);
+		}
+
+		public int outVertex(int edge) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().outVertex(edge);
+			}
+			return vertexIndex(edge(edge).outVertex());
+		}
+
+		public int inVertex(int edge) {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.graph().inVertex(edge);
+			}
+			return vertexIndex(edge(edge).inVertex());
+		}
+
+		public boolean hasEdgeActivation(int edge, int pulse, boolean withDirection) {
+			if (execution.pulseActivity != null && pulse == execution.activePulse) {
+				return execution.pulseActivity.edgeActivatedLastPulse(edge, withDirection);
+			}
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.activations().edgeActivation(edge, pulse, withDirection) > 0d;
+			}
+			return edgeActivation(edge(edge), pulse, withDirection) > 0d;
+		}
+
+		public boolean hasInputActivation(int vertex, int pulse) {
+			if (execution.pulseActivity != null && pulse == execution.activePulse) {
+				return execution.pulseActivity.vertexReceivedLastPulse(vertex);
+			}
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.activations().inputActivation(vertex, pulse) > 0d;
+			}
+			return inputActivation(vertex(vertex), pulse) > 0d;
+		}
+
+		public int receivedEdges(int vertex, int pulse, boolean withDirection) {
+			if (pulse > execution.activePulse) {
+				return countReceivedEdges(vertex, pulse, withDirection);
+			}
+			ReceivedEdges receivedEdges = recentReceivedEdges.get();
+			if (receivedEdges.vertex != vertex || receivedEdges.pulse != pulse
+					|| receivedEdges.activePulse != execution.activePulse
+					|| receivedEdges.withDirection != withDirection) {
+				receivedEdges.received = countReceivedEdges(vertex, pulse, withDirection);
+				receivedEdges.vertex = vertex;
+				receivedEdges.pulse = pulse;
+				receivedEdges.activePulse = execution.activePulse;
+				receivedEdges.withDirection = withDirection;
+			}
+			return receivedEdges.received;
+		}
+
+		private int countReceivedEdges(int vertex, int pulse, boolean withDirection) {
+			int received = 0;
+			if (execution.compiledEngine != null) {
+				CompiledGraph graph = execution.compiledEngine.graph();
+				for (int i = graph.incidentEdgesStart(vertex); i < graph.incidentEdgesEnd(vertex); i++) {
+					int edge = graph.incidentEdge(i);
+					int toVertex = withDirection ? graph.inVertex(edge) : graph.outVertex(edge);
+					if (toVertex == vertex && hasEdgeActivation(edge, pulse, withDirection)) {
+						received++;
+					}
+				}
+				return received;
+			}
+			Iterator<Edge> edges = vertex(vertex).edges(withDirection ? Direction.IN : Direction.OUT);
+			while (edges.hasNext()) {
+				if (hasEdgeActivation(edgeIndex(edges.next()), pulse, withDirection)) {
+					received++;
+				}
+			}
+			return received;
+		}
+
+		public GraphStatistics graphStatistics() {
+			return execution.graphStatistics;
+		}
+
+		public int degree(Vertex vertex) {
+			return execution.graphStatistics.degree(vertex);
 		}
 
 		public double edgeWeight(Edge edge, boolean withDirection) {
-			return configuration.edgeWeight().edgeWeight(this, edge, withDirection);
+			if (!edgeWeights.isCached()) {
+				return edgeMode(plan.edgeWeights(), edge).edgeWeight(this, edge, withDirection);
+			}
+			int element = edgeWeights.isElementDependent() ? edgeIndex(edge) * 2 + (withDirection ? 1 : 0) : 0;
+			double edgeWeight = edgeWeights.get(pulse(), element);
+			if (Double.isNaN(edgeWeight)) {
+				edgeWeight = edgeMode(plan.edgeWeights(), edge).edgeWeight(this, edge, withDirection);
+				edgeWeights.put(pulse(), element, edgeWeight);
+			}
+			return edgeWeight;
 		}
 
 		public double branch(Vertex vertex) {
-			return configuration.branchMode().branch(this, vertex);
+			if (!branches.isCached()) {
+				return vertexMode(plan.branchModes(), vertex).branch(this, vertex);
+			}
+			int element = branches.isElementDependent() ? vertexIndex(vertex) : 0;
+			double branch = branches.get(pulse(), element);
+			if (Double.isNaN(branch)) {
+				branch = vertexMode(plan.branchModes(), vertex).branch(this, vertex);
+				branches.put(pulse(), element, branch);
+			}
+			return branch;
 		}
 
 		public double attenuation(Vertex vertex) {
-			return configuration.attenuationMode().attenuation(this, vertex);
+			if (!attenuations.isCached()) {
+				return vertexMode(plan.attenuationModes(), vertex).attenuation(this, vertex);
+			}
+			int element = attenuations.isElementDependent() ? vertexIndex(vertex) : 0;
+			double attenuation = attenuations.get(pulse(), element);
+			if (Double.isNaN(attenuation)) {
+				attenuation = vertexMode(plan.attenuationModes(), vertex).attenuation(this, vertex);
+				attenuations.put(pulse(), element, attenuation);
+			}
+			return attenuation;
 		}
 
 		public double activation(Vertex vertex, double x) {
-			return configuration.activationMode().activation(this, vertex, x);
+			ActivationMode activationMode = vertexMode(plan.activationModes(), vertex);
+			if (activationMode == ActivationMode.Default.IDENTITY) {
+				return x;
+			}
+			return activationMode.activation(this, vertex, x);
 		}
 
 		public Collection<AbortCondition> abortConditions() {
 			return configuration.abortConditions();
 		}
 
+		public ActivationStore activationStore() {
+			return execution.activationStore;
+		}
+
+		public Iterator<Vertex> activeVertices() {
+			if (execution.compiledEngine != null) {
+				return execution.compiledEngine.activeVertices();
+			}
+			return execution.activeVertices.iterator();
+		}
+
+		public void setVertexProperty(Vertex vertex, String propertyKey, double value) {
+			if (execution.bufferedActivationStore != null) {
+				execution.bufferedActivationStore.setVertexProperty(vertex, propertyKey, value);
+			} else {
+				vertex.property(Cardinality.single, propertyKey, value);
+			}
+		}
+
+		public double outputActivation(Vertex vertex, int pulse) {
+			return execution.activationStore.outputActivation(vertex, pulse);
+		}
+
+		public double edgeActivation(Edge edge, int pulse, boolean withDirection) {
+			return execution.activationStore.edgeActivation(edge, pulse, withDirection);
+		}
+
+		public double inputActivation(Vertex vertex, int pulse) {
+			return execution.activationStore.inputActivation(vertex, pulse);
+		}
+
+		public double vertexActivation(Vertex vertex, int pulse) {
+			return execution.activationStore.vertexActivation(vertex, pulse);
+		}
+
+		public PulseStatistics statistics(int pulse) {
+			List<PulseStatistics> statistics = execution.pulseStatistics;
+			return pulse >= 0 && pulse < statistics.size() ? statistics.get(pulse) : null;
+		}
+
+		public void reportMinimumActivation(double minimumActivation) {
+			List<Double> minimumActivations = execution.pulseMinimumActivations;
+			while (minimumActivations.size() <= pulse()) {
+				minimumActivations.add(Double.NaN);
+			}
+			minimumActivations.set(pulse(), minimumActivation);
+		}
+
+		public Iterator<Vertex> activatedVertices(int pulse, double minimumActivation) {
+			if (pulse == execution.activePulse) {
+				ActivationIndex activationIndex = activationIndex(pulse);
+				return vertices(activationIndex, 0, activationIndex.count(minimumActivation));
+			}
+			return execution.activationStore.activatedVertices(execution.traversal, pulse, minimumActivation);
+		}
+
 		public String outputActivationKey(int pulse) {
 			return execution.propertyKeyFactory.outputActivationKey(pulse);
 		}
@@ -372,6 +1142,39 @@ public final class Execution extends RunnableProcess {
 
 	}
 
+	private final class EdgeBatch implements Consumer<Edge> {
+
+		private int pulse;
+		private Vertex fromVertex;
+		private double outputActivation;
+		private List<Edge> edges;
+
+		@Override
+		public void accept(Edge edge) {
+			calculateEdgeActivation(pulse, fromVertex, outputActivation, edge);
+		}
+
+	}
+
+	private static final class AllowedEdges {
+
+		private int pulse = -1;
+		private Vertex vertex;
+		private List<Edge> edges = new ArrayList<>();
+		private List<Edge> spareEdges;
+
+	}
+
+	private static final class ReceivedEdges {
+
+		private int vertex = -1;
+		private int pulse = -1;
+		private int activePulse = -1;
+		private boolean withDirection;
+		private int received;
+
+	}
+
 	public static interface PropertyKeyFactory {
 
 		String outputActivationKey(int pulse);
@@ -1,31 +1,65 @@
 package de.tuberlin.aset.spreadingactivation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import de.tuberlin.aset.spreadingactivation.Execution.Accumulation;
 import de.tuberlin.aset.spreadingactivation.Execution.PropertyKeyFactory;
 import de.tuberlin.aset.spreadingactivation.spreadgraph.Generation;
+import de.tuberlin.aset.spreadingactivation.store.ActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.PropertyActivationStore;
+import de.tuberlin.aset.spreadingactivation.util.PulseStatistics;
 
 public class ExecutionResult {
 
 	private final GraphTraversalSource traversal;
 	private final PropertyKeyFactory propertyKeyFactory;
+	private final ActivationStore activationStore;
 	private final int pulse;
+	private final List<Accumulation> accumulations;
+	private final double directionThreshold;
+	private final List<Double> minimumActivations;
+	private final List<PulseStatistics> statistics;
+
+	private boolean written = false;
 
 	private ExecutionResult(Builder builder) {
 		this.traversal = builder.traversal;
 		this.propertyKeyFactory = builder.propertyKeyFactory;
+		this.activationStore = builder.activationStore != null ? builder.activationStore
+				: new PropertyActivationStore(propertyKeyFactory);
 		this.pulse = builder.pulse;
+		this.accumulations = new ArrayList<>(builder.accumulations);
+		this.directionThreshold = builder.directionThreshold;
+		this.minimumActivations = new ArrayList<>(builder.minimumActivations);
+		this.statistics = new ArrayList<>(builder.statistics);
 	}
 
 	@SuppressWarnings("unchecked")
 	public void accumulateActivations(String sumKey, double lambda) {
-		if (lambda == 1d) {
+		if (!isPropertyBased()) {
+			Iterator<Vertex> vertices = traversal.V();
+			while (vertices.hasNext()) {
+				Vertex vertex = vertices.next();
+				double sum = 0d;
+				for (int p = 0; p <= pulse; p++) {
+					sum += activationStore.vertexActivation(vertex, p) * Math.pow(lambda, p);
+				}
+				vertex.property(sumKey, sum);
+			}
+		} else if (lambda == 1d) {
 			String[] keys = new String[pulse + 1];
 
 			for (int p = 0; p <= pulse; p++) {
@@ -55,12 +89,75 @@ public class ExecutionResult {
 		return (F) propertyKeyFactory;
 	}
 
+	@SuppressWarnings("unchecked")
+	public <S extends ActivationStore> S activationStore() {
+		return (S) activationStore;
+	}
+
 	public int pulse() {
 		return pulse;
 	}
 
+	public Accumulation accumulation(int pulse) {
+		return pulse >= 0 && pulse < accumulations.size() ? accumulations.get(pulse) : null;
+	}
+
+	public double directionThreshold() {
+		return directionThreshold;
+	}
+
+	public double minimumActivation(int pulse) {
+		return pulse >= 0 && pulse < minimumActivations.size() ? minimumActivations.get(pulse) : Double.NaN;
+	}
+
+	public PulseStatistics statistics(int pulse) {
+		return pulse >= 0 && pulse < statistics.size() ? statistics.get(pulse) : null;
+	}
+
+	public void writeActivations() {
+		if (!isPropertyBased()) {
+			writeActivations(new PropertyActivationStore(propertyKeyFactory));
+			written = true;
+		}
+	}
+
+	public void writeActivations(ActivationStore target) {
+		Iterator<Vertex> vertices = traversal.V();
+		while (vertices.hasNext()) {
+			Vertex vertex = vertices.next();
+			for (int p = 0; p <= pulse; p++) {
+				double outputActivation = activationStore.outputActivation(vertex, p);
+				if (outputActivation != 0d) {
+					target.setOutputActivation(vertex, p, outputActivation);
+				}
+				double inputActivation = activationStore.inputActivation(vertex, p);
+				if (inputActivation != 0d) {
+					target.setInputActivation(vertex, p, inputActivation);
+				}
+				double vertexActivation = activationStore.vertexActivation(vertex, p);
+				if (vertexActivation != 0d) {
+					target.setVertexActivation(vertex, p, vertexActivation);
+				}
+			}
+		}
+		Iterator<Edge> edges = traversal.E();
+		while (edges.hasNext()) {
+			Edge edge = edges.next();
+			for (int p = 0; p <= pulse; p++) {
+				double edgeActivationWithDirection = activationStore.edgeActivation(edge, p, true);
+				if (edgeActivationWithDirection != 0d) {
+					target.setEdgeActivation(edge, p, true, edgeActivationWithDirection);
+				}
+				double edgeActivationOppositeDirection = activationStore.edgeActivation(edge, p, false);
+				if (edgeActivationOppositeDirection != 0d) {
+					target.setEdgeActivation(edge, p, false, edgeActivationOppositeDirection);
+				}
+			}
+		}
+	}
+
 	public double activation(Vertex vertex, int pulse) {
-		return activation(vertex, propertyKeyFactory.vertexActivationKey(pulse));
+		return activationStore.vertexActivation(vertex, pulse);
 	}
 
 	public double activation(Vertex vertex, String propertyKey) {
@@ -76,7 +173,7 @@ public class ExecutionResult {
 	}
 
 	public GraphTraversal<?, Vertex> activatedVertices(int pulse) {
-		return activatedVertices(propertyKeyFactory.vertexActivationKey(pulse));
+		return activatedVertices(pulse, Double.NEGATIVE_INFINITY);
 	}
 
 	public GraphTraversal<?, Vertex> activatedVertices(String propertyKey) {
@@ -84,7 +181,9 @@ public class ExecutionResult {
 	}
 
 	public GraphTraversal<?, Vertex> activatedVertices(int pulse, double minimumActivation) {
-		return activatedVertices(propertyKeyFactory.vertexActivationKey(pulse), minimumActivation);
+		Function<Vertex, Object> activation = vertex -> activationStore.vertexActivation(vertex, pulse);
+		return activationStore.activatedVertices(traversal, pulse, minimumActivation).order().by(activation,
+				Order.desc);
 	}
 
 	public GraphTraversal<?, Vertex> activatedVertices(String propertyKey, double minimumActivation) {
@@ -92,11 +191,20 @@ public class ExecutionResult {
 	}
 
 	public void cleanup() {
-		propertyKeyFactory.cleanupProperties(traversal, pulse);
+		activationStore.cleanup(traversal, pulse);
+		if (written) {
+			propertyKeyFactory.cleanupProperties(traversal, pulse);
+			written = false;
+		}
 	}
 
 	public Generation.Builder generateSpreadGraph() {
-		return Generation.build(this, traversal, propertyKeyFactory);
+		return Generation.build(this, traversal, activationStore);
+	}
+
+	private boolean isPropertyBased() {
+		return activationStore instanceof PropertyActivationStore
+				&& ((PropertyActivationStore) activationStore).getPropertyKeyFactory() == propertyKeyFactory;
 	}
 
 	public static Builder build(GraphTraversalSource traversal, PropertyKeyFactory propertyKeyFactory) {
@@ -107,18 +215,48 @@ public class ExecutionResult {
 
 		private final GraphTraversalSource traversal;
 		private final PropertyKeyFactory propertyKeyFactory;
+		private ActivationStore activationStore;
 		private int pulse = 0;
+		private List<Accumulation> accumulations = Collections.emptyList();
+		private double directionThreshold = Double.NaN;
+		private List<Double> minimumActivations = Collections.emptyList();
+		private List<PulseStatistics> statistics = Collections.emptyList();
 
 		private Builder(GraphTraversalSource traversal, PropertyKeyFactory propertyKeyFactory) {
 			this.traversal = traversal;
 			this.propertyKeyFactory = propertyKeyFactory;
 		}
 
+		public Builder activationStore(ActivationStore activationStore) {
+			this.activationStore = activationStore;
+			return this;
+		}
+
 		public Builder pulse(int pulse) {
 			this.pulse = pulse;
 			return this;
 		}
 
+		public Builder accumulations(List<Accumulation> accumulations) {
+			this.accumulations = accumulations;
+			return this;
+		}
+
+		public Builder directionThreshold(double directionThreshold) {
+			this.directionThreshold = directionThreshold;
+			return this;
+		}
+
+		public Builder minimumActivations(List<Double> minimumActivations) {
+			this.minimumActivations = minimumActivations;
+			return this;
+		}
+
+		public Builder statistics(List<PulseStatistics> statistics) {
+			this.statistics = statistics;
+			return this;
+		}
+
 		public ExecutionResult create() {
 			return new ExecutionResult(this);
 		}
@@ -1,6 +1,7 @@
 package de.tuberlin.aset.spreadingactivation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -8,7 +9,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -20,6 +20,8 @@ import de.tuberlin.aset.spreadingactivation.mode.AttenuationMode;
 import de.tuberlin.aset.spreadingactivation.mode.BranchMode;
 import de.tuberlin.aset.spreadingactivation.mode.EdgeWeight;
 import de.tuberlin.aset.spreadingactivation.mode.PulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.Purity;
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
 import de.tuberlin.aset.spreadingactivation.mode.SendMode;
 
 public final class PulsedSpreadingActivation implements Configuration {
@@ -189,15 +191,26 @@ public final class PulsedSpreadingActivation implements Configuration {
 		private final Map<Integer, MODE> modes;
 		private final MODE defaultMode;
 
+		private final int[] definedPulses;
+		private final Object[] definedModes;
+
 		private PulsedMode(Map<Integer, MODE> modes, MODE defaultMode) {
 			this.defaultMode = defaultMode;
 			this.modes = Collections.unmodifiableMap(modes);
+			this.definedPulses = modes.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+			this.definedModes = new Object[definedPulses.length];
+			for (int i = 0; i < definedPulses.length; i++) {
+				definedModes[i] = modes.get(definedPulses[i]);
+			}
 		}
 
+		@SuppressWarnings("unchecked")
 		public MODE getMode(int pulse) {
-			return modes.entrySet().stream().filter(entry -> entry.getKey() <= pulse)
-					.max((e1, e2) -> e1.getKey().compareTo(e2.getKey())).map(entry -> entry.getValue())
-					.orElse(defaultMode);
+			int index = Arrays.binarySearch(definedPulses, pulse);
+			if (index < 0) {
+				index = -index - 2;
+			}
+			return index >= 0 ? (MODE) definedModes[index] : defaultMode;
 		}
 
 		public Set<Integer> getDefinedPulses() {
@@ -208,6 +221,14 @@ public final class PulsedSpreadingActivation implements Configuration {
 			return defaultMode;
 		}
 
+		public Dependency dependency() {
+			Dependency dependency = Dependency.of(defaultMode);
+			for (MODE mode : modes.values()) {
+				dependency = Dependency.combine(dependency, Dependency.of(mode));
+			}
+			return modes.isEmpty() ? dependency : Dependency.combine(dependency, Dependency.PULSE);
+		}
+
 	}
 
 	public static final class PulsedMinimumActivationPulseInception extends PulsedMode<Double>
@@ -225,8 +246,7 @@ public final class PulsedSpreadingActivation implements Configuration {
 		@Override
 		public Iterator<Vertex> startingVertices(Context context) {
 			Double minimumActivation = getMode(context.pulse());
-			return context.traversal().V()
-					.has(context.vertexActivationKey(context.pulse() - 1), P.gte(minimumActivation)).dedup();
+			return context.activatedVertices(context.pulse() - 1, minimumActivation);
 		}
 
 		public static Builder build() {
@@ -259,7 +279,8 @@ public final class PulsedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class PulsedActivationMode extends PulsedMode<ActivationMode> implements ActivationMode {
+	public static final class PulsedActivationMode extends PulsedMode<ActivationMode>
+			implements ActivationMode, Purity {
 
 		private PulsedActivationMode(Map<Integer, ActivationMode> activationModes,
 				ActivationMode defaultActivationMode) {
@@ -273,7 +294,8 @@ public final class PulsedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class PulsedAttenuationMode extends PulsedMode<AttenuationMode> implements AttenuationMode {
+	public static final class PulsedAttenuationMode extends PulsedMode<AttenuationMode>
+			implements AttenuationMode, Purity {
 
 		private PulsedAttenuationMode(Map<Integer, AttenuationMode> attenuationModes,
 				AttenuationMode defaultAttenuationMode) {
@@ -287,7 +309,7 @@ public final class PulsedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class PulsedBranchMode extends PulsedMode<BranchMode> implements BranchMode {
+	public static final class PulsedBranchMode extends PulsedMode<BranchMode> implements BranchMode, Purity {
 
 		private PulsedBranchMode(Map<Integer, BranchMode> branchModes, BranchMode defaultBranchMode) {
 			super(branchModes, defaultBranchMode);
@@ -312,7 +334,7 @@ public final class PulsedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class PulsedEdgeWeight extends PulsedMode<EdgeWeight> implements EdgeWeight {
+	public static final class PulsedEdgeWeight extends PulsedMode<EdgeWeight> implements EdgeWeight, Purity {
 
 		private PulsedEdgeWeight(Map<Integer, EdgeWeight> edgeWeights, EdgeWeight defaultEdgeWeight) {
 			super(edgeWeights, defaultEdgeWeight);
@@ -0,0 +1,127 @@
+package de.tuberlin.aset.spreadingactivation;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+
+public interface RetentionPolicy {
+
+	void pulseCompleted(Context context, int pulse);
+
+	void executionFinished(Context context, int pulse);
+
+	public static final class Default {
+
+		public static final RetentionPolicy ALL = new RetentionPolicy() {
+
+			@Override
+			public void pulseCompleted(Context context, int pulse) {
+			}
+
+			@Override
+			public void executionFinished(Context context, int pulse) {
+			}
+
+		};
+
+		public static final LastPulsesRetentionPolicy FINAL = new LastPulsesRetentionPolicy(1);
+
+		public static final LastPulsesRetentionPolicy LAST(int pulses) {
+			return new LastPulsesRetentionPolicy(pulses);
+		}
+
+		public static final AccumulatedRetentionPolicy ACCUMULATED(String sumKey) {
+			return new AccumulatedRetentionPolicy(sumKey, 1d);
+		}
+
+		public static final AccumulatedRetentionPolicy ACCUMULATED(String sumKey, double lambda) {
+			return new AccumulatedRetentionPolicy(sumKey, lambda);
+		}
+
+		public static final class LastPulsesRetentionPolicy implements RetentionPolicy {
+
+			private final int pulses;
+
+			private LastPulsesRetentionPolicy(int pulses) {
+				if (pulses < 1) {
+					throw new IllegalArgumentException("at least the last pulse has to be retained");
+				}
+				this.pulses = pulses;
+			}
+
+			@Override
+			public void pulseCompleted(Context context, int pulse) {
+				if (pulse - pulses >= 0) {
+					context.activationStore().cleanupPulse(context.traversal(), pulse - pulses);
+				}
+			}
+
+			@Override
+			public void executionFinished(Context context, int pulse) {
+			}
+
+			public int getPulses() {
+				return pulses;
+			}
+
+		}
+
+		public static final class AccumulatedRetentionPolicy implements RetentionPolicy {
+
+			private final String sumKey;
+			private final double lambda;
+			private final Map<Context, Set<Vertex>> accumulatedVertices = Collections
+					.synchronizedMap(new WeakHashMap<>());
+
+			private AccumulatedRetentionPolicy(String sumKey, double lambda) {
+				this.sumKey = sumKey;
+				this.lambda = lambda;
+			}
+
+			@Override
+			public void pulseCompleted(Context context, int pulse) {
+				Set<Vertex> accumulatedVertices = this.accumulatedVertices.computeIfAbsent(context,
+						key -> ConcurrentHashMap.newKeySet());
+				double factor = Math.pow(lambda, pulse);
+				Iterator<Vertex> vertices = context.activeVertices();
+				while (vertices.hasNext()) {
+					Vertex vertex = vertices.next();
+					double sum = 0d;
+					if (!accumulatedVertices.add(vertex)) {
+						Property<?> property = vertex.property(sumKey);
+						sum = property.isPresent() ? ((Number) property.value()).doubleValue() : 0d;
+					}
+					context.setVertexProperty(vertex, sumKey, sum + context.vertexActivation(vertex, pulse) * factor);
+				}
+				if (pulse > 0) {
+					context.activationStore().cleanupPulse(context.traversal(), pulse - 1);
+				}
+			}
+
+			@Override
+			public void executionFinished(Context context, int pulse) {
+				accumulatedVertices.remove(context);
+				context.activationStore().cleanupPulse(context.traversal(), pulse);
+			}
+
+			public String getSumKey() {
+				return sumKey;
+			}
+
+			public double getLambda() {
+				return lambda;
+			}
+
+		}
+
+	}
+
+}
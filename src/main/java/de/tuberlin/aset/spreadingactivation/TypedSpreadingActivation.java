@@ -6,13 +6,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -24,6 +23,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerEdge;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerElement;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
 import de.tuberlin.aset.spreadingactivation.mode.ActivationMode;
@@ -31,7 +31,10 @@ import de.tuberlin.aset.spreadingactivation.mode.AttenuationMode;
 import de.tuberlin.aset.spreadingactivation.mode.BranchMode;
 import de.tuberlin.aset.spreadingactivation.mode.EdgeWeight;
 import de.tuberlin.aset.spreadingactivation.mode.PulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.Purity;
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
 import de.tuberlin.aset.spreadingactivation.mode.SendMode;
+import de.tuberlin.aset.spreadingactivation.util.TopActivations;
 
 public final class TypedSpreadingActivation implements Configuration {
 
@@ -254,7 +257,7 @@ public final class TypedSpreadingActivation implements Configuration {
 			return typePropertyKey;
 		}
 
-		protected MODE getMode(Element element) {
+		public MODE getMode(Element element) {
 			if (typePropertyKey == null) {
 				return getMode(element.label());
 			}
@@ -277,6 +280,14 @@ public final class TypedSpreadingActivation implements Configuration {
 			return defaultMode;
 		}
 
+		public Dependency dependency() {
+			Dependency dependency = Dependency.of(defaultMode);
+			for (MODE mode : modes.values()) {
+				dependency = Dependency.combine(dependency, Dependency.of(mode));
+			}
+			return modes.isEmpty() ? dependency : Dependency.combine(dependency, Dependency.ELEMENT);
+		}
+
 		public <S, E> GraphTraversal<S, E> chooseTraversal() {
 			GraphTraversal<S, E> choose = __.choose(typePropertyKey == null ? __.label() : __.values(typePropertyKey));
 			for (Entry<Object, MODE> entry : modes.entrySet()) {
@@ -311,22 +322,24 @@ public final class TypedSpreadingActivation implements Configuration {
 
 		@Override
 		public Iterator<Vertex> startingVertices(Context context) {
-			String typePropertyKey = getTypePropertyKey();
+			int lastPulse = context.pulse() - 1;
+			return IteratorUtils.filter(context.activatedVertices(lastPulse, Double.NEGATIVE_INFINITY),
+					vertex -> isStartingVertex(vertex, context.vertexActivation(vertex, lastPulse)));
+		}
+
+		public boolean isStartingVertex(Vertex vertex, double lastVertexActivation) {
 			Set<Object> definedTypes = getDefinedTypes();
-			@SuppressWarnings("rawtypes")
-			Traversal[] traversals = new Traversal[definedTypes.size()];
-			int i = 0;
-			for (Object type : definedTypes) {
-				Double minimumActivation = getMode(type);
-				if (typePropertyKey != null) {
-					traversals[i++] = __.has(typePropertyKey, type) //
-							.has(context.vertexActivationKey(context.pulse() - 1), P.gte(minimumActivation));
-				} else {
-					traversals[i++] = __.hasLabel((String) type) //
-							.has(context.vertexActivationKey(context.pulse() - 1), P.gte(minimumActivation));
+			if (getTypePropertyKey() == null) {
+				return definedTypes.contains(vertex.label()) && lastVertexActivation >= getMode(vertex.label());
+			}
+			Iterator<Object> types = vertex.values(getTypePropertyKey());
+			while (types.hasNext()) {
+				Object type = types.next();
+				if (definedTypes.contains(type) && lastVertexActivation >= getMode(type)) {
+					return true;
 				}
 			}
-			return context.traversal().V().filter(__.or(traversals)).dedup();
+			return false;
 		}
 
 		public static Builder build(String typePropertyKey) {
@@ -366,7 +379,95 @@ public final class TypedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class TypedActivationMode extends TypedMode<ActivationMode> implements ActivationMode {
+	public static final class TypedTopActivationPulseInception extends TypedMode<Integer> implements PulseInception {
+
+		private final double minimumActivation;
+
+		private TypedTopActivationPulseInception(Builder builder) {
+			super(builder.typePropertyKey, builder.limits, builder.defaultLimit);
+			this.minimumActivation = builder.minimumActivation;
+		}
+
+		@Override
+		public Iterator<Vertex> startingVertices(Context context) {
+			int lastPulse = context.pulse() - 1;
+			Map<Object, TopActivations> topActivations = new HashMap<>();
+			Iterator<Vertex> vertices = context.activatedVertices(lastPulse, minimumActivation);
+			while (vertices.hasNext()) {
+				Vertex vertex = vertices.next();
+				Object type = type(vertex);
+				Integer limit = type != null ? getMode(type) : getDefaultMode();
+				if (limit != null && limit > 0) {
+					topActivations.computeIfAbsent(type, key -> new TopActivations(limit))
+							.offer(context.vertexIndex(vertex), context.vertexActivation(vertex, lastPulse));
+				}
+			}
+			List<Vertex> startingVertices = new ArrayList<>();
+			for (TopActivations typeActivations : topActivations.values()) {
+				for (int vertex : typeActivations.drain()) {
+					startingVertices.add(context.vertex(vertex));
+				}
+			}
+			return startingVertices.iterator();
+		}
+
+		public Object type(Vertex vertex) {
+			if (getTypePropertyKey() == null) {
+				return vertex.label();
+			}
+			Property<Object> property = vertex.property(getTypePropertyKey());
+			return property.isPresent() ? property.value() : null;
+		}
+
+		public double getMinimumActivation() {
+			return minimumActivation;
+		}
+
+		public static Builder build(String typePropertyKey) {
+			return new Builder(typePropertyKey);
+		}
+
+		public static class Builder {
+
+			private String typePropertyKey;
+			private Map<Object, Integer> limits = new HashMap<>();
+			private Integer defaultLimit = 0;
+			private double minimumActivation = Double.NEGATIVE_INFINITY;
+
+			private Builder(String typePropertyKey) {
+				this.typePropertyKey = typePropertyKey;
+			}
+
+			public Builder typePropertyKey(String typePropertyKey) {
+				this.typePropertyKey = typePropertyKey;
+				return this;
+			}
+
+			public Builder limit(Object type, Integer limit) {
+				this.limits.put(type, limit);
+				return this;
+			}
+
+			public Builder defaultLimit(Integer defaultLimit) {
+				this.defaultLimit = defaultLimit;
+				return this;
+			}
+
+			public Builder minimumActivation(double minimumActivation) {
+				this.minimumActivation = minimumActivation;
+				return this;
+			}
+
+			public TypedTopActivationPulseInception create() {
+				return new TypedTopActivationPulseInception(this);
+			}
+
+		}
+
+	}
+
+	public static final class TypedActivationMode extends TypedMode<ActivationMode>
+			implements ActivationMode, Purity {
 
 		private TypedActivationMode(String typePropertyKey, Map<Object, ActivationMode> activationModes,
 				ActivationMode defaultActivationMode) {
@@ -380,7 +481,8 @@ public final class TypedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class TypedAttenuationMode extends TypedMode<AttenuationMode> implements AttenuationMode {
+	public static final class TypedAttenuationMode extends TypedMode<AttenuationMode>
+			implements AttenuationMode, Purity {
 
 		private TypedAttenuationMode(String typePropertyKey, Map<Object, AttenuationMode> attenuationModes,
 				AttenuationMode defaultAttenuationMode) {
@@ -394,7 +496,7 @@ public final class TypedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class TypedBranchMode extends TypedMode<BranchMode> implements BranchMode {
+	public static final class TypedBranchMode extends TypedMode<BranchMode> implements BranchMode, Purity {
 
 		private TypedBranchMode(String typePropertyKey, Map<Object, BranchMode> branchModes,
 				BranchMode defaultBranchMode) {
@@ -420,7 +522,7 @@ public final class TypedSpreadingActivation implements Configuration {
 
 	}
 
-	public static final class TypedEdgeWeight extends TypedMode<EdgeWeight> implements EdgeWeight {
+	public static final class TypedEdgeWeight extends TypedMode<EdgeWeight> implements EdgeWeight, Purity {
 
 		private TypedEdgeWeight(String typePropertyKey, Map<Object, EdgeWeight> edgeWeights,
 				EdgeWeight defaultEdgeWeight) {
@@ -0,0 +1,181 @@
+package de.tuberlin.aset.spreadingactivation.compiled;
+
+import java.util.Arrays;
+import java.util.Deque;
+
+final class ActivationVector {
+
+	private static final int DENSE_FILL_RATIO = 8;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int length;
+	private final Deque<double[]> releasedBuffers;
+
+	private double[] dense;
+	private int[] keys = new int[INITIAL_CAPACITY];
+	private double[] values = new double[INITIAL_CAPACITY];
+	private int size = 0;
+
+	ActivationVector(int length, Deque<double[]> releasedBuffers, boolean dense) {
+		this.length = length;
+		this.releasedBuffers = releasedBuffers;
+		if (dense) {
+			densify();
+		}
+	}
+
+	int length() {
+		return length;
+	}
+
+	boolean isDense() {
+		return dense != null;
+	}
+
+	double get(int index) {
+		if (dense != null) {
+			return dense[index];
+		}
+		int slot = find(index);
+		return slot >= 0 ? values[slot] : 0d;
+	}
+
+	void set(int index, double value) {
+		if (dense != null) {
+			dense[index] = value;
+			return;
+		}
+		int slot = find(index);
+		if (slot >= 0) {
+			values[slot] = value;
+		} else if (value != 0d) {
+			slot = insert(index);
+			if (slot >= 0) {
+				values[slot] = value;
+			} else {
+				dense[index] = value;
+			}
+		}
+	}
+
+	double add(int index, double value) {
+		if (dense != null) {
+			double previous = dense[index];
+			dense[index] = previous + value;
+			return previous;
+		}
+		int slot = find(index);
+		if (slot < 0) {
+			slot = insert(index);
+			if (slot < 0) {
+				dense[index] = value;
+				return 0d;
+			}
+		}
+		double previous = values[slot];
+		values[slot] = previous + value;
+		return previous;
+	}
+
+	void indices(IntList indices) {
+		if (dense != null) {
+			for (int index = 0; index < length; index++) {
+				if (dense[index] != 0d) {
+					indices.add(index);
+				}
+			}
+			return;
+		}
+		int start = indices.size();
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0 && values[slot] != 0d) {
+				indices.add(keys[slot] - 1);
+			}
+		}
+		indices.sort(start);
+	}
+
+	void release() {
+		if (dense != null) {
+			releasedBuffers.push(dense);
+			dense = null;
+		}
+		keys = new int[INITIAL_CAPACITY];
+		values = new double[INITIAL_CAPACITY];
+		size = 0;
+	}
+
+	private int find(int index) {
+		int key = index + 1;
+		int mask = keys.length - 1;
+		for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+			if (keys[slot] == key) {
+				return slot;
+			}
+			if (keys[slot] == 0) {
+				return -1;
+			}
+		}
+	}
+
+	private int insert(int index) {
+		if ((size + 1) * DENSE_FILL_RATIO > length) {
+			densify();
+			return -1;
+		}
+		if ((size + 1) * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		int key = index + 1;
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (keys[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		size++;
+		return slot;
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		double[] oldValues = values;
+		keys = new int[capacity];
+		values = new double[capacity];
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int slot = hash(oldKeys[i]) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void densify() {
+		double[] buffer = releasedBuffers.poll();
+		if (buffer != null) {
+			Arrays.fill(buffer, 0d);
+		} else {
+			buffer = new double[length];
+		}
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				buffer[keys[slot] - 1] = values[slot];
+			}
+		}
+		dense = buffer;
+		keys = null;
+		values = null;
+		size = 0;
+	}
+
+	private static int hash(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+}
@@ -0,0 +1,224 @@
+package de.tuberlin.aset.spreadingactivation.compiled;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.store.ActivationStore;
+
+public final class CompiledActivations implements ActivationStore {
+
+	private final CompiledGraph graph;
+
+	private final ActivationVector[] outputActivations;
+	private final ActivationVector[] edgeActivationsWithDirection;
+	private final ActivationVector[] edgeActivationsOppositeDirection;
+	private final ActivationVector[] inputActivations;
+	private final ActivationVector[] vertexActivations;
+
+	private final Deque<double[]> releasedVertexBuffers = new ArrayDeque<>();
+	private final Deque<double[]> releasedEdgeBuffers = new ArrayDeque<>();
+
+	CompiledActivations(CompiledGraph graph, int pulses) {
+		this.graph = graph;
+		this.outputActivations = new ActivationVector[pulses + 1];
+		this.edgeActivationsWithDirection = new ActivationVector[pulses + 1];
+		this.edgeActivationsOppositeDirection = new ActivationVector[pulses + 1];
+		this.inputActivations = new ActivationVector[pulses + 1];
+		this.vertexActivations = new ActivationVector[pulses + 1];
+		this.vertexActivations[0] = new ActivationVector(graph.vertexCount(), releasedVertexBuffers, false);
+	}
+
+	public CompiledGraph graph() {
+		return graph;
+	}
+
+	public int pulses() {
+		return vertexActivations.length - 1;
+	}
+
+	public double outputActivation(int vertex, int pulse) {
+		return value(outputActivations, vertex, pulse);
+	}
+
+	public double edgeActivation(int edge, int pulse, boolean withDirection) {
+		return value(withDirection ? edgeActivationsWithDirection : edgeActivationsOppositeDirection, edge, pulse);
+	}
+
+	public double inputActivation(int vertex, int pulse) {
+		return value(inputActivations, vertex, pulse);
+	}
+
+	public double vertexActivation(int vertex, int pulse) {
+		return value(vertexActivations, vertex, pulse);
+	}
+
+	@Override
+	public double vertexActivation(Vertex vertex, int pulse) {
+		int index = graph.vertexIndex(vertex.id());
+		return index >= 0 ? vertexActivation(index, pulse) : 0d;
+	}
+
+	@Override
+	public double inputActivation(Vertex vertex, int pulse) {
+		int index = graph.vertexIndex(vertex.id());
+		return index >= 0 ? inputActivation(index, pulse) : 0d;
+	}
+
+	@Override
+	public double outputActivation(Vertex vertex, int pulse) {
+		int index = graph.vertexIndex(vertex.id());
+		return index >= 0 ? outputActivation(index, pulse) : 0d;
+	}
+
+	@Override
+	public double edgeActivation(Edge edge, int pulse, boolean withDirection) {
+		int index = graph.edgeIndex(edge.id());
+		return index >= 0 ? edgeActivation(index, pulse, withDirection) : 0d;
+	}
+
+	@Override
+	public void setOutputActivation(Vertex vertex, int pulse, double activation) {
+		setVertexActivation(outputActivations, graph.vertexIndex(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public void setEdgeActivation(Edge edge, int pulse, boolean withDirection, double activation) {
+		int index = graph.edgeIndex(edge.id());
+		if (index >= 0) {
+			edgeActivations(pulse, withDirection).set(index, activation);
+		}
+	}
+
+	@Override
+	public void setInputActivation(Vertex vertex, int pulse, double activation) {
+		setVertexActivation(inputActivations, graph.vertexIndex(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public void setVertexActivation(Vertex vertex, int pulse, double activation) {
+		setVertexActivation(vertexActivations, graph.vertexIndex(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> activatedVertices(GraphTraversalSource traversal, int pulse,
+			double minimumActivation) {
+		List<Object> ids = new ArrayList<>();
+		if (pulse >= 0 && pulse < vertexActivations.length && vertexActivations[pulse] != null) {
+			ActivationVector activations = vertexActivations[pulse];
+			IntList vertices = new IntList();
+			activations.indices(vertices);
+			for (int i = 0; i < vertices.size(); i++) {
+				int vertex = vertices.get(i);
+				if (activations.get(vertex) >= minimumActivation) {
+					ids.add(graph.vertex(vertex).id());
+				}
+			}
+		}
+		return vertices(traversal, ids);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> receivingVertices(GraphTraversalSource traversal, int pulse) {
+		List<Object> ids = new ArrayList<>();
+		if (pulse >= 0 && pulse < inputActivations.length && inputActivations[pulse] != null) {
+			ActivationVector activations = inputActivations[pulse];
+			IntList vertices = new IntList();
+			activations.indices(vertices);
+			for (int i = 0; i < vertices.size(); i++) {
+				int vertex = vertices.get(i);
+				if (activations.get(vertex) > 0d) {
+					ids.add(graph.vertex(vertex).id());
+				}
+			}
+		}
+		return vertices(traversal, ids);
+	}
+
+	@Override
+	public void cleanupPulse(GraphTraversalSource traversal, int pulse) {
+		if (pulse >= 0 && pulse < vertexActivations.length) {
+			release(outputActivations, pulse);
+			release(edgeActivationsWithDirection, pulse);
+			release(edgeActivationsOppositeDirection, pulse);
+			release(inputActivations, pulse);
+			release(vertexActivations, pulse);
+		}
+	}
+
+	@Override
+	public void cleanup(GraphTraversalSource traversal, int pulses) {
+		Arrays.fill(outputActivations, null);
+		Arrays.fill(edgeActivationsWithDirection, null);
+		Arrays.fill(edgeActivationsOppositeDirection, null);
+		Arrays.fill(inputActivations, null);
+		Arrays.fill(vertexActivations, null);
+		releasedVertexBuffers.clear();
+		releasedEdgeBuffers.clear();
+	}
+
+	private GraphTraversal<?, Vertex> vertices(GraphTraversalSource traversal, List<Object> ids) {
+		if (ids.isEmpty()) {
+			return traversal.V().limit(0);
+		}
+		return traversal.V(ids.toArray());
+	}
+
+	private void setVertexActivation(ActivationVector[] vectors, int index, int pulse, double activation) {
+		if (index >= 0) {
+			vector(vectors, pulse, graph.vertexCount(), releasedVertexBuffers).set(index, activation);
+		}
+	}
+
+	ActivationVector outputActivations(int pulse) {
+		return vector(outputActivations, pulse, graph.vertexCount(), releasedVertexBuffers);
+	}
+
+	ActivationVector edgeActivations(int pulse, boolean withDirection) {
+		return vector(withDirection ? edgeActivationsWithDirection : edgeActivationsOppositeDirection, pulse,
+				graph.edgeCount(), releasedEdgeBuffers);
+	}
+
+	ActivationVector inputActivations(int pulse) {
+		return vector(inputActivations, pulse, graph.vertexCount(), releasedVertexBuffers);
+	}
+
+	ActivationVector vertexActivations(int pulse) {
+		return vector(vertexActivations, pulse, graph.vertexCount(), releasedVertexBuffers);
+	}
+
+	private double value(ActivationVector[] vectors, int index, int pulse) {
+		if (pulse < 0 || pulse >= vectors.length) {
+			return 0d;
+		}
+		ActivationVector vector = vectors[pulse];
+		return vector != null ? vector.get(index) : 0d;
+	}
+
+	private ActivationVector vector(ActivationVector[] vectors, int pulse, int size,
+			Deque<double[]> releasedBuffers) {
+		ActivationVector vector = vectors[pulse];
+		if (vector == null) {
+			boolean dense = pulse > 0 && vectors[pulse - 1] != null && vectors[pulse - 1].isDense();
+			vector = new ActivationVector(size, releasedBuffers, dense);
+			vectors[pulse] = vector;
+		}
+		return vector;
+	}
+
+	private void release(ActivationVector[] vectors, int pulse) {
+		ActivationVector vector = vectors[pulse];
+		if (vector != null) {
+			vectors[pulse] = null;
+			vector.release();
+		}
+	}
+
+}
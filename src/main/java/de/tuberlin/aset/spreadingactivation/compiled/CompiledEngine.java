@@ -0,0 +1,455 @@
+package de.tuberlin.aset.spreadingactivation.compiled;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.PulsedSpreadingActivation.PulsedMode;
+import de.tuberlin.aset.spreadingactivation.TypedSpreadingActivation.TypedMode;
+import de.tuberlin.aset.spreadingactivation.mode.BranchMode;
+import de.tuberlin.aset.spreadingactivation.mode.EdgeFilter;
+import de.tuberlin.aset.spreadingactivation.mode.PulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.PulseInception.Default.TopActivationPulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.SendMode;
+import de.tuberlin.aset.spreadingactivation.mode.SpreadingMode;
+import de.tuberlin.aset.spreadingactivation.plan.ActivationIndex;
+import de.tuberlin.aset.spreadingactivation.plan.ConfigurationPlan;
+import de.tuberlin.aset.spreadingactivation.plan.ModeTable;
+import de.tuberlin.aset.spreadingactivation.plan.TypeIndex;
+import de.tuberlin.aset.spreadingactivation.util.TopActivations;
+
+public final class CompiledEngine {
+
+	private final CompiledGraph graph;
+	private final Configuration configuration;
+	private final Context context;
+	private final ConfigurationPlan plan;
+
+	private final CompiledActivations activations;
+
+	private IntList activeVertices = new IntList();
+	private IntList nextActiveVertices = new IntList();
+	private final IntList receivingVertices = new IntList();
+	private final IntList startingVertices = new IntList();
+	private int activePulse = 0;
+	private ActivationIndex activationIndex;
+
+	private double activationSum;
+	private double deltaSum;
+	private double deltaMaximum;
+	private long processedEdges;
+
+	private int[] allowedEdges = new int[16];
+	private boolean[] distinctVertices;
+	private TopActivations topActivations;
+
+	private final Map<SpreadingMode, SendMode[]> spreadingModes = new IdentityHashMap<>();
+
+	public CompiledEngine(CompiledGraph graph, Configuration configuration, Context context) {
+		this.graph = graph;
+		this.configuration = configuration;
+		this.context = context;
+		this.plan = context.plan();
+		this.activations = new CompiledActivations(graph, configuration.pulses());
+	}
+
+	public CompiledGraph graph() {
+		return graph;
+	}
+
+	public CompiledActivations activations() {
+		return activations;
+	}
+
+	public double activationSum() {
+		return activationSum;
+	}
+
+	public double deltaSum() {
+		return deltaSum;
+	}
+
+	public double deltaMaximum() {
+		return deltaMaximum;
+	}
+
+	public long processedEdges() {
+		return processedEdges;
+	}
+
+	public int activeVertexCount() {
+		return activeVertices.size();
+	}
+
+	public Iterator<Vertex> activeVertices() {
+		IntList activeVertices = this.activeVertices;
+		return IntStream.range(0, activeVertices.size()).mapToObj(i -> graph.vertex(activeVertices.get(i))).iterator();
+	}
+
+	public ActivationIndex activationIndex(int pulse) {
+		if (activationIndex != null && activationIndex.pulse() == pulse) {
+			return activationIndex;
+		}
+		ActivationVector vertexActivations = activations.vertexActivations(pulse);
+		IntList vertices = activeVertices;
+		if (pulse != activePulse) {
+			vertices = new IntList();
+			vertexActivations.indices(vertices);
+		}
+		int[] indices = vertices.toArray();
+		double[] values = new double[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			values[i] = vertexActivations.get(indices[i]);
+		}
+		ActivationIndex activationIndex = new ActivationIndex(pulse, indices, values, indices.length);
+		if (pulse <= activePulse) {
+			this.activationIndex = activationIndex;
+		}
+		return activationIndex;
+	}
+
+	public void activate(Iterator<Vertex> vertices, double value) {
+		while (vertices.hasNext()) {
+			activate(vertices.next(), value);
+		}
+	}
+
+	public void activate(Vertex vertex, double value) {
+		int index = graph.vertexIndex(vertex.id());
+		if (index >= 0) {
+			ActivationVector vertexActivations = activations.vertexActivations(0);
+			if (vertexActivations.get(index) == 0d && value != 0d) {
+				activeVertices.add(index);
+			}
+			vertexActivations.set(index, value);
+		}
+	}
+
+	public boolean pulse(int pulse) {
+		activationSum = 0d;
+		deltaSum = 0d;
+		deltaMaximum = 0d;
+		processedEdges = 0;
+		IntList startingVertices = startingVertices(pulse);
+		if (startingVertices.isEmpty()) {
+			return false;
+		}
+
+		ActivationVector lastVertexActivations = activations.vertexActivations(pulse - 1);
+		ActivationVector outputActivations = activations.outputActivations(pulse);
+		ActivationVector edgeActivationsWithDirection = activations.edgeActivations(pulse, true);
+		ActivationVector edgeActivationsOppositeDirection = activations.edgeActivations(pulse, false);
+		ActivationVector inputActivations = activations.inputActivations(pulse);
+
+		for (int v = 0; v < startingVertices.size(); v++) {
+			int fromVertex = startingVertices.get(v);
+			Vertex vertex = graph.vertex(fromVertex);
+			double outputActivation = lastVertexActivations.get(fromVertex);
+			outputActivation *= context.attenuation(vertex);
+
+			if (!isValidActivation(outputActivation)) {
+				continue;
+			}
+			int allowedEdgesCount = allowedEdges(pulse, fromVertex);
+			outputActivation *= branch(plan.branchModes().mode(pulse, fromVertex, vertex), pulse, fromVertex,
+					allowedEdgesCount);
+			if (!isValidActivation(outputActivation)) {
+				continue;
+			}
+			outputActivations.set(fromVertex, outputActivation);
+			processedEdges += allowedEdgesCount;
+
+			for (int i = 0; i < allowedEdgesCount; i++) {
+				int edge = allowedEdges[i];
+				boolean withDirection = graph.outVertex(edge) == fromVertex;
+				double edgeActivation = outputActivation * context.edgeWeight(graph.edge(edge), withDirection);
+				if (isValidActivation(edgeActivation)) {
+					int toVertex;
+					if (withDirection) {
+						edgeActivationsWithDirection.set(edge, edgeActivation);
+						toVertex = graph.inVertex(edge);
+					} else {
+						edgeActivationsOppositeDirection.set(edge, edgeActivation);
+						toVertex = graph.outVertex(edge);
+					}
+					if (inputActivations.add(toVertex, edgeActivation) == 0d) {
+						receivingVertices.add(toVertex);
+					}
+				}
+			}
+		}
+
+		if (activeVertices.isEmpty() && receivingVertices.isEmpty()) {
+			return false;
+		}
+
+		ActivationVector vertexActivations = activations.vertexActivations(pulse);
+		nextActiveVertices.clear();
+		for (int i = 0; i < activeVertices.size(); i++) {
+			calculateVertexActivation(activeVertices.get(i), lastVertexActivations, inputActivations,
+					vertexActivations);
+		}
+		for (int i = 0; i < receivingVertices.size(); i++) {
+			int toVertex = receivingVertices.get(i);
+			if (lastVertexActivations.get(toVertex) == 0d) {
+				calculateVertexActivation(toVertex, lastVertexActivations, inputActivations, vertexActivations);
+			}
+		}
+		receivingVertices.clear();
+
+		IntList swap = activeVertices;
+		activeVertices = nextActiveVertices;
+		nextActiveVertices = swap;
+		activePulse = pulse;
+		return true;
+	}
+
+	private void calculateVertexActivation(int toVertex, ActivationVector lastVertexActivations,
+			ActivationVector inputActivations, ActivationVector vertexActivations) {
+		double inputActivation = inputActivations.get(toVertex);
+		if (!isValidActivation(inputActivation)) {
+			inputActivations.set(toVertex, 0d);
+		}
+		double lastVertexActivation = lastVertexActivations.get(toVertex);
+		double vertexActivation = context.activation(graph.vertex(toVertex), inputActivation + lastVertexActivation);
+		if (isValidActivation(vertexActivation)) {
+			vertexActivations.set(toVertex, vertexActivation);
+			nextActiveVertices.add(toVertex);
+		} else {
+			vertexActivation = 0d;
+		}
+		double delta = Math.abs(vertexActivation - lastVertexActivation);
+		activationSum += vertexActivation;
+		deltaSum += delta;
+		deltaMaximum = Math.max(deltaMaximum, delta);
+	}
+
+	private IntList startingVertices(int pulse) {
+		PulseInception pulseInception = configuration.pulseInception();
+		ActivationVector lastVertexActivations = activations.vertexActivations(pulse - 1);
+		activeVertices.sort();
+		startingVertices.clear();
+
+		if (plan.minimumActivations() != null) {
+			return indexedVertices(pulse, plan.minimumActivations());
+		}
+		if (pulseInception instanceof TopActivationPulseInception) {
+			return topActivatedVertices(lastVertexActivations, (TopActivationPulseInception) pulseInception);
+		}
+		if (distinctVertices == null) {
+			distinctVertices = new boolean[graph.vertexCount()];
+		}
+		for (int vertex : graph.vertexIndices(pulseInception.startingVertices(context))) {
+			if (!distinctVertices[vertex]) {
+				distinctVertices[vertex] = true;
+				startingVertices.add(vertex);
+			}
+		}
+		for (int i = 0; i < startingVertices.size(); i++) {
+			distinctVertices[startingVertices.get(i)] = false;
+		}
+		return startingVertices;
+	}
+
+	private IntList indexedVertices(int pulse, ModeTable<Double> minimumActivations) {
+		ActivationIndex activationIndex = activationIndex(pulse - 1);
+		if (!minimumActivations.isTyped()) {
+			int count = activationIndex.count(minimumActivations.mode(pulse));
+			for (int position = 0; position < count; position++) {
+				startingVertices.add(activationIndex.vertex(position));
+			}
+		} else {
+			TypeIndex typeIndex = minimumActivations.typeIndex();
+			activationIndex.partition(typeIndex, graph::vertex);
+			for (int typeId = 1; typeId < typeIndex.size(); typeId++) {
+				int start = activationIndex.typeStart(typeId);
+				int count = activationIndex.typeCount(typeId, minimumActivations.mode(pulse, typeId));
+				for (int position = start; position < start + count; position++) {
+					startingVertices.add(activationIndex.typedVertex(position));
+				}
+			}
+		}
+		startingVertices.sort();
+		startingVertices.distinct();
+		return startingVertices;
+	}
+
+	private IntList topActivatedVertices(ActivationVector lastVertexActivations,
+			TopActivationPulseInception pulseInception) {
+		if (topActivations == null || topActivations.limit() != pulseInception.getLimit()) {
+			topActivations = new TopActivations(pulseInception.getLimit());
+		}
+		double minimumActivation = pulseInception.getMinimumActivation();
+		for (int i = 0; i < activeVertices.size(); i++) {
+			int vertex = activeVertices.get(i);
+			double activation = lastVertexActivations.get(vertex);
+			if (activation >= minimumActivation) {
+				topActivations.offer(vertex, activation);
+			}
+		}
+		for (int vertex : topActivations.drain()) {
+			startingVertices.add(vertex);
+		}
+		startingVertices.sort();
+		return startingVertices;
+	}
+
+	private int allowedEdges(int pulse, int vertex) {
+		int start = graph.incidentEdgesStart(vertex);
+		int count = graph.incidentEdgesEnd(vertex) - start;
+		if (allowedEdges.length < count) {
+			allowedEdges = new int[Math.max(count, allowedEdges.length * 2)];
+		}
+		for (int i = 0; i < count; i++) {
+			allowedEdges[i] = graph.incidentEdge(start + i);
+		}
+		return filterEdges(plan.sendModes().mode(pulse, vertex, graph.vertex(vertex)), pulse, vertex, count);
+	}
+
+	private int filterEdges(SendMode sendMode, int pulse, int vertex, int count) {
+		sendMode = resolve(sendMode, pulse, graph.vertex(vertex));
+		if (sendMode instanceof SpreadingMode) {
+			for (SendMode mode : sendModes((SpreadingMode) sendMode)) {
+				count = filterEdges(mode, pulse, vertex, count);
+			}
+			return count;
+		}
+		if (sendMode == SendMode.Default.BASIC || count == 0) {
+			return count;
+		}
+		if (sendMode == SendMode.Default.RECENT_RECEIVER) {
+			if (pulse == 1 || isValidActivation(activations.inputActivation(vertex, pulse - 1))) {
+				return count;
+			}
+			return 0;
+		}
+		if (sendMode == SendMode.Default.FORWARD || sendMode == SendMode.Default.FORWARD_LOOP) {
+			if (pulse == 1) {
+				return count;
+			}
+			boolean loop = sendMode == SendMode.Default.FORWARD_LOOP;
+			int receivedWithDirection = 0;
+			int receivedOppositeDirection = 0;
+			if (loop) {
+				for (int i = graph.incidentEdgesStart(vertex); i < graph.incidentEdgesEnd(vertex); i++) {
+					int edge = graph.incidentEdge(i);
+					if (graph.inVertex(edge) == vertex && activations.edgeActivation(edge, pulse - 1, true) != 0d) {
+						receivedWithDirection++;
+					}
+					if (graph.outVertex(edge) == vertex
+							&& activations.edgeActivation(edge, pulse - 1, false) != 0d) {
+						receivedOppositeDirection++;
+					}
+				}
+			}
+			int allowed = 0;
+			for (int i = 0; i < count; i++) {
+				int edge = allowedEdges[i];
+				if (isForward(edge, pulse, vertex, true, loop ? receivedWithDirection : 0)
+						|| isForward(edge, pulse, vertex, false, loop ? receivedOppositeDirection : 0)) {
+					allowedEdges[allowed++] = edge;
+				}
+			}
+			return allowed;
+		}
+		if (sendMode instanceof EdgeFilter) {
+			EdgeFilter edgeFilter = (EdgeFilter) sendMode;
+			int allowed = 0;
+			for (int i = 0; i < count; i++) {
+				int edge = allowedEdges[i];
+				if (edgeFilter.test(context, vertex, edge, graph.outVertex(edge) == vertex)) {
+					allowedEdges[allowed++] = edge;
+				}
+			}
+			return allowed;
+		}
+		return filterEdges(context.allowedEdges(graph.vertex(vertex), sendMode), count);
+	}
+
+	private SendMode[] sendModes(SpreadingMode spreadingMode) {
+		SendMode[] sendModes = spreadingModes.get(spreadingMode);
+		if (sendModes == null) {
+			sendModes = spreadingMode.getSendModes().toArray(new SendMode[0]);
+			spreadingModes.put(spreadingMode, sendModes);
+		}
+		return sendModes;
+	}
+
+	private boolean isForward(int edge, int pulse, int vertex, boolean withDirection, int received) {
+		int toVertex = withDirection ? graph.inVertex(edge) : graph.outVertex(edge);
+		if (toVertex != vertex) {
+			return false;
+		}
+		if (activations.edgeActivation(edge, pulse - 1, withDirection) == 0d) {
+			return true;
+		}
+		return received > 1;
+	}
+
+	private int filterEdges(GraphTraversal<?, Edge> allowedTraversal, int count) {
+		Set<Object> allowedIds = new HashSet<>();
+		while (allowedTraversal.hasNext()) {
+			allowedIds.add(allowedTraversal.next().id());
+		}
+		int allowed = 0;
+		for (int i = 0; i < count; i++) {
+			int edge = allowedEdges[i];
+			if (allowedIds.contains(graph.edge(edge).id())) {
+				allowedEdges[allowed++] = edge;
+			}
+		}
+		return allowed;
+	}
+
+	private double branch(BranchMode branchMode, int pulse, int vertex, int allowedEdgesCount) {
+		Vertex element = graph.vertex(vertex);
+		branchMode = resolve(branchMode, pulse, element);
+		if (branchMode == BranchMode.Default.NONE) {
+			return 1d;
+		}
+		if (branchMode == BranchMode.Default.DEGREE) {
+			int degree = graph.degree(vertex);
+			return degree == 0 ? 0d : 1d / degree;
+		}
+		if (branchMode == BranchMode.Default.FANOUT) {
+			long totalCount = graph.vertexCount();
+			if (totalCount == 0) {
+				return 0d;
+			}
+			long adjacentVertexCount = graph.degree(vertex);
+			return (double) adjacentVertexCount / totalCount;
+		}
+		if (branchMode == BranchMode.Default.BRANCH) {
+			return 1d / Math.max(1d, allowedEdgesCount);
+		}
+		return branchMode.branch(context, element);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <MODE> MODE resolve(MODE mode, int pulse, Element element) {
+		while (true) {
+			if (mode instanceof PulsedMode) {
+				mode = ((PulsedMode<MODE>) mode).getMode(pulse);
+			} else if (mode instanceof TypedMode) {
+				mode = ((TypedMode<MODE>) mode).getMode(element);
+			} else {
+				return mode;
+			}
+		}
+	}
+
+	private static boolean isValidActivation(double value) {
+		return !Double.isInfinite(value) && !Double.isNaN(value) && value > 0d;
+	}
+
+}
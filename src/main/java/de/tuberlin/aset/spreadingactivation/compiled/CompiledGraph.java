@@ -0,0 +1,152 @@
+package de.tuberlin.aset.spreadingactivation.compiled;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+public final class CompiledGraph {
+
+	private final Vertex[] vertices;
+	private final Edge[] edges;
+
+	private final Map<Object, Integer> vertexIndices;
+	private final Map<Object, Integer> edgeIndices;
+
+	private final int[] outVertices;
+	private final int[] inVertices;
+
+	private final int[] degrees;
+	private final int[] offsets;
+	private final int[] incidentEdges;
+
+	private CompiledGraph(GraphTraversalSource traversal) {
+		List<Vertex> vertexList = traversal.V().toList();
+		List<Edge> edgeList = traversal.E().toList();
+
+		this.vertices = vertexList.toArray(new Vertex[vertexList.size()]);
+		this.edges = edgeList.toArray(new Edge[edgeList.size()]);
+
+		this.vertexIndices = new HashMap<>(vertices.length * 2);
+		for (int vertex = 0; vertex < vertices.length; vertex++) {
+			vertexIndices.put(vertices[vertex].id(), vertex);
+		}
+
+		this.edgeIndices = new HashMap<>(edges.length * 2);
+		this.outVertices = new int[edges.length];
+		this.inVertices = new int[edges.length];
+		this.degrees = new int[vertices.length];
+		int[] incidentCounts = new int[vertices.length];
+		for (int edge = 0; edge < edges.length; edge++) {
+			edgeIndices.put(edges[edge].id(), edge);
+			int outVertex = vertexIndices.get(edges[edge].outVertex().id());
+			int inVertex = vertexIndices.get(edges[edge].inVertex().id());
+			outVertices[edge] = outVertex;
+			inVertices[edge] = inVertex;
+
+			degrees[outVertex]++;
+			degrees[inVertex]++;
+			incidentCounts[outVertex]++;
+			if (inVertex != outVertex) {
+				incidentCounts[inVertex]++;
+			}
+		}
+
+		this.offsets = new int[vertices.length + 1];
+		for (int vertex = 0; vertex < vertices.length; vertex++) {
+			offsets[vertex + 1] = offsets[vertex] + incidentCounts[vertex];
+		}
+
+		this.incidentEdges = new int[offsets[vertices.length]];
+		int[] positions = new int[vertices.length];
+		System.arraycopy(offsets, 0, positions, 0, vertices.length);
+		for (int edge = 0; edge < edges.length; edge++) {
+			incidentEdges[positions[outVertices[edge]]++] = edge;
+			if (inVertices[edge] != outVertices[edge]) {
+				incidentEdges[positions[inVertices[edge]]++] = edge;
+			}
+		}
+	}
+
+	public int vertexCount() {
+		return vertices.length;
+	}
+
+	public int edgeCount() {
+		return edges.length;
+	}
+
+	public Vertex vertex(int vertex) {
+		return vertices[vertex];
+	}
+
+	public Edge edge(int edge) {
+		return edges[edge];
+	}
+
+	public int vertexIndex(Object id) {
+		Integer index = vertexIndices.get(id);
+		return index != null ? index : -1;
+	}
+
+	public int edgeIndex(Object id) {
+		Integer index = edgeIndices.get(id);
+		return index != null ? index : -1;
+	}
+
+	public int outVertex(int edge) {
+		return outVertices[edge];
+	}
+
+	public int inVertex(int edge) {
+		return inVertices[edge];
+	}
+
+	public int oppositeVertex(int edge, int vertex) {
+		return outVertices[edge] == vertex ? inVertices[edge] : outVertices[edge];
+	}
+
+	public int degree(int vertex) {
+		return degrees[vertex];
+	}
+
+	public int incidentEdgesStart(int vertex) {
+		return offsets[vertex];
+	}
+
+	public int incidentEdgesEnd(int vertex) {
+		return offsets[vertex + 1];
+	}
+
+	public int incidentEdge(int position) {
+		return incidentEdges[position];
+	}
+
+	public int[] vertexIndices(Iterator<? extends Vertex> vertices) {
+		int[] indices = new int[16];
+		int count = 0;
+		while (vertices.hasNext()) {
+			int index = vertexIndex(vertices.next().id());
+			if (index >= 0) {
+				if (count == indices.length) {
+					int[] grown = new int[count * 2];
+					System.arraycopy(indices, 0, grown, 0, count);
+					indices = grown;
+				}
+				indices[count++] = index;
+			}
+		}
+		int[] result = new int[count];
+		System.arraycopy(indices, 0, result, 0, count);
+		return result;
+	}
+
+	public static CompiledGraph compile(GraphTraversalSource traversal) {
+		return new CompiledGraph(traversal);
+	}
+
+}
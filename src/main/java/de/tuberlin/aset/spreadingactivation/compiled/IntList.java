@@ -0,0 +1,63 @@
+package de.tuberlin.aset.spreadingactivation.compiled;
+
+import java.util.Arrays;
+
+final class IntList {
+
+	private int[] values;
+	private int size = 0;
+
+	IntList() {
+		this(16);
+	}
+
+	IntList(int capacity) {
+		this.values = new int[Math.max(capacity, 1)];
+	}
+
+	void add(int value) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		values[size++] = value;
+	}
+
+	int get(int index) {
+		return values[index];
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	void sort() {
+		sort(0);
+	}
+
+	void sort(int from) {
+		Arrays.sort(values, from, size);
+	}
+
+	void distinct() {
+		int distinct = 0;
+		for (int index = 0; index < size; index++) {
+			if (distinct == 0 || values[distinct - 1] != values[index]) {
+				values[distinct++] = values[index];
+			}
+		}
+		size = distinct;
+	}
+
+	int[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+}
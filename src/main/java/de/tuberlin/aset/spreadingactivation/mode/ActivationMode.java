@@ -3,6 +3,7 @@ package de.tuberlin.aset.spreadingactivation.mode;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
 
 public interface ActivationMode {
 
@@ -10,7 +11,7 @@ public interface ActivationMode {
 
 	public static final class Default {
 
-		public static final ActivationMode IDENTITY = new ActivationMode() {
+		public static final ActivationMode IDENTITY = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -18,7 +19,7 @@ public interface ActivationMode {
 			}
 		};
 
-		public static final ActivationMode SIG = new ActivationMode() {
+		public static final ActivationMode SIG = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -26,7 +27,7 @@ public interface ActivationMode {
 			}
 		};
 
-		public static final ActivationMode LOG2 = new ActivationMode() {
+		public static final ActivationMode LOG2 = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -34,7 +35,7 @@ public interface ActivationMode {
 			}
 		};
 
-		public static final ActivationMode LOG10 = new ActivationMode() {
+		public static final ActivationMode LOG10 = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -42,7 +43,7 @@ public interface ActivationMode {
 			}
 		};
 
-		public static final ActivationMode LOG2SIG = new ActivationMode() {
+		public static final ActivationMode LOG2SIG = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -50,7 +51,7 @@ public interface ActivationMode {
 			}
 		};
 
-		public static final ActivationMode LOG10SIG = new ActivationMode() {
+		public static final ActivationMode LOG10SIG = new PureActivationMode(Dependency.INPUT) {
 
 			@Override
 			public double activation(Context context, Vertex vertex, double x) {
@@ -58,6 +59,21 @@ public interface ActivationMode {
 			}
 		};
 
+		private static abstract class PureActivationMode implements ActivationMode, Purity {
+
+			private final Dependency dependency;
+
+			private PureActivationMode(Dependency dependency) {
+				this.dependency = dependency;
+			}
+
+			@Override
+			public Dependency dependency() {
+				return dependency;
+			}
+
+		}
+
 	}
 
 }
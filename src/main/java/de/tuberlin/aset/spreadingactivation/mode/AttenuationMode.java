@@ -3,6 +3,7 @@ package de.tuberlin.aset.spreadingactivation.mode;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
 
 public interface AttenuationMode {
 
@@ -10,7 +11,7 @@ public interface AttenuationMode {
 
 	public static final class Default {
 
-		public static final AttenuationMode IGNORE = new AttenuationMode() {
+		public static final AttenuationMode IGNORE = new PureAttenuationMode(Dependency.CONSTANT) {
 
 			@Override
 			public double attenuation(Context context, Vertex vertex) {
@@ -22,7 +23,7 @@ public interface AttenuationMode {
 			return new FixedAttenuationMode(attenuationFactor);
 		}
 
-		public static final class FixedAttenuationMode implements AttenuationMode {
+		public static final class FixedAttenuationMode implements AttenuationMode, Purity {
 
 			private final double attenuationFactor;
 
@@ -35,6 +36,11 @@ public interface AttenuationMode {
 				return attenuationFactor;
 			}
 
+			@Override
+			public Dependency dependency() {
+				return Dependency.CONSTANT;
+			}
+
 			public double getAttenuationFactor() {
 				return attenuationFactor;
 			}
@@ -45,7 +51,7 @@ public interface AttenuationMode {
 			return new IncreasingAttenuationMode(attenuationFactor);
 		}
 
-		public static final class IncreasingAttenuationMode implements AttenuationMode {
+		public static final class IncreasingAttenuationMode implements AttenuationMode, Purity {
 
 			private final double attenuationFactor;
 
@@ -58,12 +64,32 @@ public interface AttenuationMode {
 				return Math.pow(0.99d, context.pulse()) * attenuationFactor;
 			}
 
+			@Override
+			public Dependency dependency() {
+				return Dependency.PULSE;
+			}
+
 			public double getAttenuationFactor() {
 				return attenuationFactor;
 			}
 
 		}
 
+		private static abstract class PureAttenuationMode implements AttenuationMode, Purity {
+
+			private final Dependency dependency;
+
+			private PureAttenuationMode(Dependency dependency) {
+				this.dependency = dependency;
+			}
+
+			@Override
+			public Dependency dependency() {
+				return dependency;
+			}
+
+		}
+
 	}
 
 }
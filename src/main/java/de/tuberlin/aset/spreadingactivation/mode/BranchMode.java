@@ -1,11 +1,12 @@
 package de.tuberlin.aset.spreadingactivation.mode;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.structure.Direction;
+import java.util.List;
+
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
 
 public interface BranchMode {
 
@@ -13,7 +14,7 @@ public interface BranchMode {
 
 	public static final class Default {
 
-		public static final BranchMode NONE = new BranchMode() {
+		public static final BranchMode NONE = new PureBranchMode(Dependency.CONSTANT) {
 
 			@Override
 			public double branch(Context context, Vertex vertex) {
@@ -21,28 +22,28 @@ public interface BranchMode {
 			}
 		};
 
-		public static final BranchMode DEGREE = new BranchMode() {
+		public static final BranchMode DEGREE = new PureBranchMode(Dependency.ELEMENT) {
 
 			@Override
 			public double branch(Context context, Vertex vertex) {
-				Long incidentEdgesCount = context.traversal().V(vertex.id()).toE(Direction.BOTH).count().next();
-				if (incidentEdgesCount == 0d) {
+				int incidentEdgesCount = context.degree(vertex);
+				if (incidentEdgesCount == 0) {
 					return 0d;
 				}
 				return 1d / incidentEdgesCount;
 			}
 		};
 
-		public static final BranchMode FANOUT = new BranchMode() {
+		public static final BranchMode FANOUT = new PureBranchMode(Dependency.ELEMENT) {
 
 			@Override
 			public double branch(Context context, Vertex vertex) {
-				Long totalCount = context.traversal().V().count().next();
-				if (totalCount == 0d) {
+				long totalCount = context.graphStatistics().vertexCount();
+				if (totalCount == 0) {
 					return 0d;
 				}
-				Long adjacentVertexCount = context.traversal().V(vertex.id()).to(Direction.BOTH).count().next();
-				return adjacentVertexCount / totalCount;
+				int adjacentVertexCount = context.degree(vertex);
+				return (double) adjacentVertexCount / totalCount;
 			}
 		};
 
@@ -50,15 +51,26 @@ public interface BranchMode {
 
 			@Override
 			public double branch(Context context, Vertex vertex) {
-				Long edgesCount = 0l;
-				GraphTraversal<?, Edge> allowedEdges = context.allowedEdges(vertex);
-				if (allowedEdges != null) {
-					edgesCount = allowedEdges.count().next();
-				}
-				return 1d / Math.max(1d, edgesCount.doubleValue());
+				List<Edge> allowedEdges = context.allowedEdgeList(vertex);
+				return 1d / Math.max(1d, allowedEdges.size());
 			}
 		};
 
+		private static abstract class PureBranchMode implements BranchMode, Purity {
+
+			private final Dependency dependency;
+
+			private PureBranchMode(Dependency dependency) {
+				this.dependency = dependency;
+			}
+
+			@Override
+			public Dependency dependency() {
+				return dependency;
+			}
+
+		}
+
 	}
 
 }
@@ -0,0 +1,9 @@
+package de.tuberlin.aset.spreadingactivation.mode;
+
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+
+public interface EdgeFilter {
+
+	boolean test(Context context, int vertex, int edge, boolean withDirection);
+
+}
@@ -0,0 +1,13 @@
+package de.tuberlin.aset.spreadingactivation.mode;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+
+public interface EdgeTemplate {
+
+	GraphTraversal<Vertex, Edge> allowedEdgesTemplate(Context context);
+
+}
@@ -16,7 +16,7 @@ public interface EdgeWeight {
 			return new ConstantEdgeWeight(edgeWeightFactor);
 		};
 
-		public static final class ConstantEdgeWeight implements EdgeWeight {
+		public static final class ConstantEdgeWeight implements EdgeWeight, Purity {
 
 			private final double edgeWeightFactor;
 
@@ -29,12 +29,70 @@ public interface EdgeWeight {
 				return edgeWeightFactor;
 			}
 
+			@Override
+			public Dependency dependency() {
+				return Dependency.CONSTANT;
+			}
+
 			public double getEdgeWeightFactor() {
 				return edgeWeightFactor;
 			}
 
 		}
 
+		public static final PropertyEdgeWeight PROPERTY(String propertyKey) {
+			return new PropertyEdgeWeight(propertyKey, false, 0d);
+		}
+
+		public static final PropertyEdgeWeight PROPERTY(String propertyKey, boolean directionAware) {
+			return new PropertyEdgeWeight(propertyKey, directionAware, 0d);
+		}
+
+		public static final PropertyEdgeWeight PROPERTY(String propertyKey, boolean directionAware,
+				double defaultEdgeWeight) {
+			return new PropertyEdgeWeight(propertyKey, directionAware, defaultEdgeWeight);
+		}
+
+		public static final class PropertyEdgeWeight implements EdgeWeight, Purity {
+
+			private final String propertyKey;
+			private final boolean directionAware;
+			private final double defaultEdgeWeight;
+
+			private PropertyEdgeWeight(String propertyKey, boolean directionAware, double defaultEdgeWeight) {
+				this.propertyKey = propertyKey;
+				this.directionAware = directionAware;
+				this.defaultEdgeWeight = defaultEdgeWeight;
+			}
+
+			@Override
+			public double edgeWeight(Context context, Edge edge, boolean withDirection) {
+				if (directionAware && !withDirection) {
+					return 0d;
+				}
+				double edgeWeight = context.edgeProperty(edge, propertyKey);
+				return Double.isNaN(edgeWeight) ? defaultEdgeWeight : edgeWeight;
+			}
+
+			@Override
+			public Dependency dependency() {
+				return Dependency.ELEMENT;
+			}
+
+			public String getPropertyKey() {
+				return propertyKey;
+			}
+
+			public boolean isDirectionAware() {
+				return directionAware;
+			}
+
+			public double getDefaultEdgeWeight() {
+				return defaultEdgeWeight;
+			}
+
+		}
+
 	}
 
 }
@@ -1,11 +1,15 @@
 package de.tuberlin.aset.spreadingactivation.mode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
-import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.util.ActivationHistogram;
+import de.tuberlin.aset.spreadingactivation.util.TopActivations;
 
 public interface PulseInception {
 
@@ -30,9 +34,125 @@ public interface PulseInception {
 
 			@Override
 			public Iterator<Vertex> startingVertices(Context context) {
-				return context.traversal().V() //
-						.has(context.vertexActivationKey(context.pulse() - 1), P.gte(minimumActivation)) //
-						.dedup();
+				return context.activatedVertices(context.pulse() - 1, minimumActivation);
+			}
+
+			public double getMinimumActivation() {
+				return minimumActivation;
+			}
+
+		}
+
+		public static final TopActivationPulseInception TOP_ACTIVATION(int limit) {
+			return new TopActivationPulseInception(limit, Double.NEGATIVE_INFINITY);
+		}
+
+		public static final TopActivationPulseInception TOP_ACTIVATION(int limit, double minimumActivation) {
+			return new TopActivationPulseInception(limit, minimumActivation);
+		}
+
+		public static final class TopActivationPulseInception implements PulseInception {
+
+			private final int limit;
+			private final double minimumActivation;
+
+			private TopActivationPulseInception(int limit, double minimumActivation) {
+				if (limit < 0) {
+					throw new IllegalArgumentException("limit has to be non-negative");
+				}
+				this.limit = limit;
+				this.minimumActivation = minimumActivation;
+			}
+
+			@Override
+			public Iterator<Vertex> startingVertices(Context context) {
+				int lastPulse = context.pulse() - 1;
+				TopActivations topActivations = new TopActivations(limit);
+				Iterator<Vertex> vertices = context.activatedVertices(lastPulse, minimumActivation);
+				while (vertices.hasNext()) {
+					Vertex vertex = vertices.next();
+					topActivations.offer(context.vertexIndex(vertex), context.vertexActivation(vertex, lastPulse));
+				}
+				return Arrays.stream(topActivations.drain()).mapToObj(context::vertex).iterator();
+			}
+
+			public int getLimit() {
+				return limit;
+			}
+
+			public double getMinimumActivation() {
+				return minimumActivation;
+			}
+
+		}
+
+		public static final BudgetActivationPulseInception BUDGET_ACTIVATION(int vertexBudget) {
+			return new BudgetActivationPulseInception(vertexBudget, Long.MAX_VALUE, Double.NEGATIVE_INFINITY);
+		}
+
+		public static final BudgetActivationPulseInception BUDGET_ACTIVATION(int vertexBudget, long edgeBudget) {
+			return new BudgetActivationPulseInception(vertexBudget, edgeBudget, Double.NEGATIVE_INFINITY);
+		}
+
+		public static final BudgetActivationPulseInception BUDGET_ACTIVATION(int vertexBudget, long edgeBudget,
+				double minimumActivation) {
+			return new BudgetActivationPulseInception(vertexBudget, edgeBudget, minimumActivation);
+		}
+
+		public static final class BudgetActivationPulseInception implements PulseInception {
+
+			private final int vertexBudget;
+			private final long edgeBudget;
+			private final double minimumActivation;
+
+			private BudgetActivationPulseInception(int vertexBudget, long edgeBudget, double minimumActivation) {
+				if (vertexBudget < 1 || edgeBudget < 1) {
+					throw new IllegalArgumentException("budget has to be positive");
+				}
+				this.vertexBudget = vertexBudget;
+				this.edgeBudget = edgeBudget;
+				this.minimumActivation = minimumActivation;
+			}
+
+			@Override
+			public Iterator<Vertex> startingVertices(Context context) {
+				int lastPulse = context.pulse() - 1;
+				List<Vertex> vertices = new ArrayList<>();
+				double[] activations = new double[16];
+				int[] degrees = new int[16];
+				Iterator<Vertex> activatedVertices = context.activatedVertices(lastPulse, minimumActivation);
+				while (activatedVertices.hasNext()) {
+					Vertex vertex = activatedVertices.next();
+					int index = vertices.size();
+					if (index == activations.length) {
+						activations = Arrays.copyOf(activations, index * 2);
+						degrees = Arrays.copyOf(degrees, index * 2);
+					}
+					vertices.add(vertex);
+					activations[index] = context.vertexActivation(vertex, lastPulse);
+					degrees[index] = edgeBudget < Long.MAX_VALUE ? context.degree(vertex) : 0;
+				}
+
+				double threshold = Math.max(minimumActivation,
+						new ActivationHistogram(activations, degrees, vertices.size()).threshold(vertexBudget,
+								edgeBudget));
+				context.reportMinimumActivation(threshold);
+
+				List<Vertex> startingVertices = new ArrayList<>();
+				for (int i = 0; i < vertices.size(); i++) {
+					if (activations[i] >= threshold) {
+						startingVertices.add(vertices.get(i));
+					}
+				}
+				return startingVertices.iterator();
+			}
+
+			public int getVertexBudget() {
+				return vertexBudget;
+			}
+
+			public long getEdgeBudget() {
+				return edgeBudget;
 			}
 
 			public double getMinimumActivation() {
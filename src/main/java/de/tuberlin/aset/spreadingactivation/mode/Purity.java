@@ -0,0 +1,27 @@
+package de.tuberlin.aset.spreadingactivation.mode;
+
+public interface Purity {
+
+	Dependency dependency();
+
+	public static enum Dependency {
+
+		CONSTANT, ELEMENT, PULSE, PULSE_AND_ELEMENT, INPUT;
+
+		public static Dependency of(Object mode) {
+			return mode instanceof Purity ? ((Purity) mode).dependency() : null;
+		}
+
+		public static Dependency combine(Dependency dependency, Dependency other) {
+			if (dependency == null || other == null) {
+				return null;
+			}
+			if (dependency == INPUT || other == INPUT) {
+				return dependency == other || dependency == CONSTANT || other == CONSTANT ? INPUT : null;
+			}
+			return values()[dependency.ordinal() | other.ordinal()];
+		}
+
+	}
+
+}
@@ -23,7 +23,7 @@ public interface SendMode {
 			}
 		};
 
-		public static final SendMode RECENT_RECEIVER = new SendMode() {
+		public static final SendMode RECENT_RECEIVER = new FilteringSendMode() {
 
 			@Override
 			public GraphTraversal<?, Edge> allowedEdges(Context context, Vertex vertex) {
@@ -36,9 +36,14 @@ public interface SendMode {
 				}
 				return __.is(false);
 			}
+
+			@Override
+			public boolean test(Context context, int vertex, int edge, boolean withDirection) {
+				return context.pulse() == 1 || context.hasInputActivation(vertex, context.pulse() - 1);
+			}
 		};
 
-		public static final SendMode FORWARD = new SendMode() {
+		public static final SendMode FORWARD = new FilteringSendMode() {
 
 			@Override
 			public GraphTraversal<?, Edge> allowedEdges(Context context, Vertex vertex) {
@@ -51,9 +56,17 @@ public interface SendMode {
 						__.hasNot(context.edgeActivationKey(context.pulse() - 1, false)).toV(Direction.OUT)
 								.hasId(vertex.id()));
 			}
+
+			@Override
+			public boolean test(Context context, int vertex, int edge, boolean withDirection) {
+				if (context.pulse() == 1) {
+					return true;
+				}
+				return isForward(context, vertex, edge, true, false) || isForward(context, vertex, edge, false, false);
+			}
 		};
 
-		public static final SendMode FORWARD_LOOP = new SendMode() {
+		public static final SendMode FORWARD_LOOP = new FilteringSendMode() {
 
 			@Override
 			public GraphTraversal<?, Edge> allowedEdges(Context context, Vertex vertex) {
@@ -74,7 +87,29 @@ public interface SendMode {
 
 				);
 			}
+
+			@Override
+			public boolean test(Context context, int vertex, int edge, boolean withDirection) {
+				if (context.pulse() == 1) {
+					return true;
+				}
+				return isForward(context, vertex, edge, true, true) || isForward(context, vertex, edge, false, true);
+			}
 		};
 
+		private static boolean isForward(Context context, int vertex, int edge, boolean withDirection, boolean loop) {
+			if ((withDirection ? context.inVertex(edge) : context.outVertex(edge)) != vertex) {
+				return false;
+			}
+			int lastPulse = context.pulse() - 1;
+			if (!context.hasEdgeActivation(edge, lastPulse, withDirection)) {
+				return true;
+			}
+			return loop && context.receivedEdges(vertex, lastPulse, withDirection) > 1;
+		}
+
+		private static abstract class FilteringSendMode implements SendMode, EdgeFilter {
+		}
+
 	}
 }
@@ -1,7 +1,9 @@
 package de.tuberlin.aset.spreadingactivation.mode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -14,6 +16,8 @@ import de.tuberlin.aset.spreadingactivation.Execution.Context;
 public final class SpreadingMode implements SendMode {
 
 	private final Collection<SendMode> sendModes;
+	private final EdgeFilter edgeFilter;
+	private final SendMode traversalSendMode;
 
 	public SpreadingMode(SendMode... sendModes) {
 		this(Arrays.asList(sendModes));
@@ -21,6 +25,33 @@ public final class SpreadingMode implements SendMode {
 
 	public SpreadingMode(Collection<SendMode> sendModes) {
 		this.sendModes = sendModes;
+		List<EdgeFilter> edgeFilters = new ArrayList<>();
+		List<SendMode> traversalSendModes = new ArrayList<>();
+		for (SendMode sendMode : sendModes) {
+			if (sendMode == SendMode.Default.BASIC) {
+				continue;
+			}
+			if (sendMode instanceof SpreadingMode) {
+				SpreadingMode spreadingMode = (SpreadingMode) sendMode;
+				if (spreadingMode.traversalSendMode != null) {
+					traversalSendModes.add(spreadingMode);
+				} else if (spreadingMode.edgeFilter != null) {
+					edgeFilters.add(spreadingMode.edgeFilter);
+				}
+			} else if (sendMode instanceof EdgeFilter) {
+				edgeFilters.add((EdgeFilter) sendMode);
+			} else {
+				traversalSendModes.add(sendMode);
+			}
+		}
+		this.edgeFilter = edgeFilter(edgeFilters);
+		if (traversalSendModes.size() == sendModes.size()) {
+			this.traversalSendMode = this;
+		} else if (traversalSendModes.size() > 1) {
+			this.traversalSendMode = new SpreadingMode(traversalSendModes);
+		} else {
+			this.traversalSendMode = traversalSendModes.isEmpty() ? null : traversalSendModes.get(0);
+		}
 	}
 
 	@Override
@@ -34,6 +65,36 @@ public final class SpreadingMode implements SendMode {
 		return __.and(traversals);
 	}
 
+	public Collection<SendMode> getSendModes() {
+		return sendModes;
+	}
+
+	public EdgeFilter getEdgeFilter() {
+		return edgeFilter;
+	}
+
+	public SendMode getTraversalSendMode() {
+		return traversalSendMode;
+	}
+
+	private static EdgeFilter edgeFilter(List<EdgeFilter> edgeFilters) {
+		if (edgeFilters.isEmpty()) {
+			return null;
+		}
+		if (edgeFilters.size() == 1) {
+			return edgeFilters.get(0);
+		}
+		EdgeFilter[] filters = edgeFilters.toArray(new EdgeFilter[edgeFilters.size()]);
+		return (context, vertex, edge, withDirection) -> {
+			for (EdgeFilter filter : filters) {
+				if (!filter.test(context, vertex, edge, withDirection)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
 	public static final class Default {
 
 		public static final SpreadingMode BASIC = new SpreadingMode(SendMode.Default.BASIC);
@@ -0,0 +1,163 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+public final class ActivationIndex {
+
+	private final int pulse;
+	private final int[] vertices;
+	private final double[] activations;
+	private final int size;
+
+	private TypeIndex typeIndex;
+	private int[] typeStarts;
+	private int[] typedVertices;
+	private double[] typedActivations;
+
+	public ActivationIndex(int pulse, int[] vertices, double[] activations, int size) {
+		this.pulse = pulse;
+		this.vertices = Arrays.copyOf(vertices, size);
+		this.activations = Arrays.copyOf(activations, size);
+		this.size = size;
+		sort(this.vertices, this.activations, Arrays.copyOf(vertices, size), Arrays.copyOf(activations, size), 0,
+				size);
+	}
+
+	public int pulse() {
+		return pulse;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int vertex(int position) {
+		return vertices[position];
+	}
+
+	public double activation(int position) {
+		return activations[position];
+	}
+
+	public int count(double minimumActivation) {
+		return count(activations, 0, size, minimumActivation);
+	}
+
+	public void partition(TypeIndex typeIndex, IntFunction<? extends Element> elements) {
+		if (this.typeIndex == typeIndex) {
+			return;
+		}
+		int types = typeIndex.size();
+		Entries entries = new Entries(size);
+		for (int position = 0; position < size; position++) {
+			int vertex = vertices[position];
+			entries.position = position;
+			typeIndex.typeIds(vertex, elements.apply(vertex), entries);
+		}
+		int[] typeStarts = new int[types + 1];
+		for (int entry = 0; entry < entries.size; entry++) {
+			typeStarts[entries.typeIds[entry] + 1]++;
+		}
+		for (int typeId = 0; typeId < types; typeId++) {
+			typeStarts[typeId + 1] += typeStarts[typeId];
+		}
+		int[] typedVertices = new int[entries.size];
+		double[] typedActivations = new double[entries.size];
+		int[] next = Arrays.copyOf(typeStarts, types);
+		for (int entry = 0; entry < entries.size; entry++) {
+			int position = entries.positions[entry];
+			int typedPosition = next[entries.typeIds[entry]]++;
+			typedVertices[typedPosition] = vertices[position];
+			typedActivations[typedPosition] = activations[position];
+		}
+		this.typeStarts = typeStarts;
+		this.typedVertices = typedVertices;
+		this.typedActivations = typedActivations;
+		this.typeIndex = typeIndex;
+	}
+
+	public int typeStart(int typeId) {
+		return typeStarts[typeId];
+	}
+
+	public int typeCount(int typeId, double minimumActivation) {
+		return count(typedActivations, typeStarts[typeId], typeStarts[typeId + 1], minimumActivation);
+	}
+
+	public int typedVertex(int position) {
+		return typedVertices[position];
+	}
+
+	public double typedActivation(int position) {
+		return typedActivations[position];
+	}
+
+	private static int count(double[] activations, int from, int to, double minimumActivation) {
+		int low = from;
+		int high = to;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (activations[middle] >= minimumActivation) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - from;
+	}
+
+	private static void sort(int[] vertices, double[] activations, int[] vertexBuffer, double[] activationBuffer,
+			int from, int to) {
+		if (to - from < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		sort(vertexBuffer, activationBuffer, vertices, activations, from, middle);
+		sort(vertexBuffer, activationBuffer, vertices, activations, middle, to);
+		int left = from;
+		int right = middle;
+		for (int position = from; position < to; position++) {
+			if (right >= to || (left < middle && !before(vertexBuffer[right], activationBuffer[right],
+					vertexBuffer[left], activationBuffer[left]))) {
+				vertices[position] = vertexBuffer[left];
+				activations[position] = activationBuffer[left++];
+			} else {
+				vertices[position] = vertexBuffer[right];
+				activations[position] = activationBuffer[right++];
+			}
+		}
+	}
+
+	private static boolean before(int vertex, double activation, int otherVertex, double otherActivation) {
+		return activation > otherActivation || (activation == otherActivation && vertex < otherVertex);
+	}
+
+	private static final class Entries implements IntConsumer {
+
+		private int position;
+		private int[] positions;
+		private int[] typeIds;
+		private int size = 0;
+
+		private Entries(int capacity) {
+			this.positions = new int[Math.max(capacity, 1)];
+			this.typeIds = new int[positions.length];
+		}
+
+		@Override
+		public void accept(int typeId) {
+			if (size == positions.length) {
+				positions = Arrays.copyOf(positions, size * 2);
+				typeIds = Arrays.copyOf(typeIds, size * 2);
+			}
+			positions[size] = position;
+			typeIds[size++] = typeId;
+		}
+
+	}
+
+}
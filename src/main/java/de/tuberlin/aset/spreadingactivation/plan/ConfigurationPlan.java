@@ -0,0 +1,84 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import de.tuberlin.aset.spreadingactivation.Configuration;
+import de.tuberlin.aset.spreadingactivation.PulsedSpreadingActivation.PulsedMinimumActivationPulseInception;
+import de.tuberlin.aset.spreadingactivation.TypedSpreadingActivation.TypedMinimumActivationPulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.ActivationMode;
+import de.tuberlin.aset.spreadingactivation.mode.AttenuationMode;
+import de.tuberlin.aset.spreadingactivation.mode.BranchMode;
+import de.tuberlin.aset.spreadingactivation.mode.EdgeWeight;
+import de.tuberlin.aset.spreadingactivation.mode.PulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.PulseInception.Default.MinimumActivationPulseInception;
+import de.tuberlin.aset.spreadingactivation.mode.SendMode;
+
+public final class ConfigurationPlan {
+
+	private final Configuration configuration;
+
+	private final ModeTable<ActivationMode> activationModes;
+	private final ModeTable<AttenuationMode> attenuationModes;
+	private final ModeTable<BranchMode> branchModes;
+	private final ModeTable<SendMode> sendModes;
+	private final ModeTable<EdgeWeight> edgeWeights;
+	private final ModeTable<Double> minimumActivations;
+
+	private ConfigurationPlan(Configuration configuration) {
+		this.configuration = configuration;
+		int pulses = configuration.pulses();
+		this.activationModes = new ModeTable<>(configuration.activationMode(), pulses);
+		this.attenuationModes = new ModeTable<>(configuration.attenuationMode(), pulses);
+		this.branchModes = new ModeTable<>(configuration.branchMode(), pulses);
+		this.sendModes = new ModeTable<>(configuration.sendMode(), pulses);
+		this.edgeWeights = new ModeTable<>(configuration.edgeWeight(), pulses);
+		this.minimumActivations = minimumActivations(configuration.pulseInception(), pulses);
+	}
+
+	public Configuration configuration() {
+		return configuration;
+	}
+
+	public ModeTable<ActivationMode> activationModes() {
+		return activationModes;
+	}
+
+	public ModeTable<AttenuationMode> attenuationModes() {
+		return attenuationModes;
+	}
+
+	public ModeTable<BranchMode> branchModes() {
+		return branchModes;
+	}
+
+	public ModeTable<SendMode> sendModes() {
+		return sendModes;
+	}
+
+	public ModeTable<EdgeWeight> edgeWeights() {
+		return edgeWeights;
+	}
+
+	public ModeTable<Double> minimumActivations() {
+		return minimumActivations;
+	}
+
+	public static ConfigurationPlan compile(Configuration configuration) {
+		return new ConfigurationPlan(configuration);
+	}
+
+	private static ModeTable<Double> minimumActivations(PulseInception pulseInception, int pulses) {
+		if (pulseInception instanceof MinimumActivationPulseInception) {
+			return new ModeTable<>(((MinimumActivationPulseInception) pulseInception).getMinimumActivation(), pulses);
+		}
+		if (pulseInception instanceof PulsedMinimumActivationPulseInception
+				|| pulseInception instanceof TypedMinimumActivationPulseInception) {
+			return table(pulseInception, pulses);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <MODE> ModeTable<MODE> table(Object mode, int pulses) {
+		return new ModeTable<>((MODE) mode, pulses);
+	}
+
+}
@@ -0,0 +1,127 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import de.tuberlin.aset.spreadingactivation.PulsedSpreadingActivation.PulsedMode;
+import de.tuberlin.aset.spreadingactivation.TypedSpreadingActivation.TypedMode;
+
+public final class ModeTable<MODE> {
+
+	private final TypeIndex typeIndex;
+	private final Object[][] modes;
+
+	ModeTable(MODE mode, int pulses) {
+		TypedMode<MODE> typedMode = typedMode(mode, pulses);
+		if (typedMode != null) {
+			this.typeIndex = new TypeIndex(typedMode.getTypePropertyKey());
+			addTypes(mode);
+		} else {
+			this.typeIndex = null;
+		}
+		int types = typeIndex != null ? typeIndex.size() : 1;
+		this.modes = new Object[pulses + 1][types];
+		for (int pulse = 0; pulse <= pulses; pulse++) {
+			for (int typeId = 0; typeId < types; typeId++) {
+				modes[pulse][typeId] = resolve(mode, pulse, typeId);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public Collection<MODE> modes() {
+		Set<MODE> modes = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Object[] pulseModes : this.modes) {
+			for (Object mode : pulseModes) {
+				modes.add((MODE) mode);
+			}
+		}
+		return modes;
+	}
+
+	public boolean isTyped() {
+		return typeIndex != null;
+	}
+
+	public TypeIndex typeIndex() {
+		return typeIndex;
+	}
+
+	public MODE mode(int pulse) {
+		return mode(pulse, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	public MODE mode(int pulse, int typeId) {
+		return (MODE) modes[Math.max(0, Math.min(pulse, modes.length - 1))][typeId];
+	}
+
+	@SuppressWarnings("unchecked")
+	public MODE mode(int pulse, int index, Element element) {
+		MODE mode = typeIndex == null ? mode(pulse, 0) : mode(pulse, typeIndex.typeId(index, element));
+		while (mode instanceof PulsedMode || mode instanceof TypedMode) {
+			if (mode instanceof PulsedMode) {
+				mode = ((PulsedMode<MODE>) mode).getMode(pulse);
+			} else {
+				mode = ((TypedMode<MODE>) mode).getMode(element);
+			}
+		}
+		return mode;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MODE resolve(MODE mode, int pulse, int typeId) {
+		while (true) {
+			if (mode instanceof PulsedMode) {
+				mode = ((PulsedMode<MODE>) mode).getMode(pulse);
+			} else if (mode instanceof TypedMode && isTyped((TypedMode<MODE>) mode)) {
+				TypedMode<MODE> typedMode = (TypedMode<MODE>) mode;
+				mode = typeId == 0 ? typedMode.getDefaultMode() : typedMode.getMode(typeIndex.type(typeId));
+			} else {
+				return mode;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addTypes(MODE mode) {
+		if (mode instanceof PulsedMode) {
+			PulsedMode<MODE> pulsedMode = (PulsedMode<MODE>) mode;
+			for (int pulse : pulsedMode.getDefinedPulses()) {
+				addTypes(pulsedMode.getMode(pulse));
+			}
+			addTypes(pulsedMode.getDefaultMode());
+		} else if (mode instanceof TypedMode && isTyped((TypedMode<MODE>) mode)) {
+			TypedMode<MODE> typedMode = (TypedMode<MODE>) mode;
+			for (Object type : typedMode.getDefinedTypes()) {
+				typeIndex.add(type);
+				addTypes(typedMode.getMode(type));
+			}
+			addTypes(typedMode.getDefaultMode());
+		}
+	}
+
+	private boolean isTyped(TypedMode<MODE> typedMode) {
+		return typeIndex != null && Objects.equals(typeIndex.getTypePropertyKey(), typedMode.getTypePropertyKey());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <MODE> TypedMode<MODE> typedMode(MODE mode, int pulses) {
+		for (int pulse = 0; pulse <= pulses; pulse++) {
+			Object resolved = mode;
+			while (resolved instanceof PulsedMode) {
+				resolved = ((PulsedMode<MODE>) resolved).getMode(pulse);
+			}
+			if (resolved instanceof TypedMode) {
+				return (TypedMode<MODE>) resolved;
+			}
+		}
+		return null;
+	}
+
+}
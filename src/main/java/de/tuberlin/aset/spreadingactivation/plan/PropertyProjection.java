@@ -0,0 +1,79 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.util.DoubleColumn;
+
+public final class PropertyProjection {
+
+	private final Map<String, DoubleColumn> vertexColumns = new ConcurrentHashMap<>();
+	private final Map<String, DoubleColumn> edgeColumns = new ConcurrentHashMap<>();
+
+	public DoubleColumn vertexColumn(Context context, String propertyKey) {
+		DoubleColumn column = vertexColumns.get(propertyKey);
+		if (column != null) {
+			return column;
+		}
+		return vertexColumns.computeIfAbsent(propertyKey,
+				key -> load(context.traversal().V().has(key), key, context::vertexIndex));
+	}
+
+	public DoubleColumn edgeColumn(Context context, String propertyKey) {
+		DoubleColumn column = edgeColumns.get(propertyKey);
+		if (column != null) {
+			return column;
+		}
+		return edgeColumns.computeIfAbsent(propertyKey,
+				key -> load(context.traversal().E().has(key), key, context::edgeIndex));
+	}
+
+	public void projectTypes(Context context, ConfigurationPlan plan) {
+		projectTypes(context, plan.activationModes());
+		projectTypes(context, plan.attenuationModes());
+		projectTypes(context, plan.branchModes());
+		projectTypes(context, plan.sendModes());
+		if (plan.edgeWeights().isTyped()) {
+			Iterator<Edge> edges = context.traversal().E();
+			while (edges.hasNext()) {
+				Edge edge = edges.next();
+				plan.edgeWeights().typeIndex().typeId(context.edgeIndex(edge), edge);
+			}
+		}
+	}
+
+	private void projectTypes(Context context, ModeTable<?> vertexModes) {
+		if (vertexModes.isTyped()) {
+			Iterator<Vertex> vertices = context.traversal().V();
+			while (vertices.hasNext()) {
+				Vertex vertex = vertices.next();
+				vertexModes.typeIndex().typeId(context.vertexIndex(vertex), vertex);
+			}
+		}
+	}
+
+	private static <E extends Element> DoubleColumn load(Iterator<E> elements, String propertyKey,
+			ToIntFunction<E> indices) {
+		DoubleColumn column = new DoubleColumn();
+		while (elements.hasNext()) {
+			E element = elements.next();
+			Property<Object> property = element.property(propertyKey);
+			if (property.isPresent() && property.value() instanceof Number) {
+				int index = indices.applyAsInt(element);
+				if (index >= 0) {
+					column.set(index, ((Number) property.value()).doubleValue());
+				}
+			}
+		}
+		return column;
+	}
+
+}
@@ -0,0 +1,70 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.Execution.Context;
+import de.tuberlin.aset.spreadingactivation.mode.EdgeTemplate;
+
+public final class TraversalTemplates {
+
+	private final GraphTraversalSource traversal;
+	private final Map<EdgeTemplate, Template> templates = new ConcurrentHashMap<>();
+
+	public TraversalTemplates(GraphTraversalSource traversal) {
+		this.traversal = traversal;
+	}
+
+	public GraphTraversal<?, Edge> allowedEdges(Context context, EdgeTemplate edgeTemplate, Vertex vertex) {
+		int pulse = context.pulse();
+		Template template = templates.get(edgeTemplate);
+		if (template == null || template.pulse != pulse) {
+			template = templates.compute(edgeTemplate, (key, current) -> current != null && current.pulse == pulse
+					? current
+					: new Template(pulse, prepare(key.allowedEdgesTemplate(context))));
+		}
+		return template.bind(vertex);
+	}
+
+	public void clear() {
+		templates.clear();
+	}
+
+	private Traversal.Admin<Vertex, Edge> prepare(GraphTraversal<Vertex, Edge> allowedEdges) {
+		Traversal.Admin<Vertex, Edge> template = allowedEdges.dedup().asAdmin();
+		template.setGraph(traversal.getGraph());
+		template.setStrategies(traversal.getStrategies());
+		template.applyStrategies();
+		if (!template.isLocked()) {
+			throw new IllegalStateException("traversal template has not been locked by applying its strategies");
+		}
+		return template;
+	}
+
+	private static final class Template {
+
+		private final int pulse;
+		private final Traversal.Admin<Vertex, Edge> traversal;
+
+		private Template(int pulse, Traversal.Admin<Vertex, Edge> traversal) {
+			this.pulse = pulse;
+			this.traversal = traversal;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private GraphTraversal<?, Edge> bind(Vertex vertex) {
+			Traversal.Admin<Vertex, Edge> bound = traversal.clone();
+			bound.addStart(bound.getTraverserGenerator().generate(vertex, (Step) bound.getStartStep(), 1L));
+			return (GraphTraversal<?, Edge>) bound;
+		}
+
+	}
+
+}
@@ -0,0 +1,137 @@
+package de.tuberlin.aset.spreadingactivation.plan;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+public final class TypeIndex {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final int MULTIPLE_TYPES = -1;
+
+	private final String typePropertyKey;
+	private final Map<Object, Integer> typeIds = new HashMap<>();
+	private Object[] types = new Object[] { null };
+
+	private volatile int[][] pages = new int[16][];
+
+	TypeIndex(String typePropertyKey) {
+		this.typePropertyKey = typePropertyKey;
+	}
+
+	public String getTypePropertyKey() {
+		return typePropertyKey;
+	}
+
+	public int size() {
+		return types.length;
+	}
+
+	public Object type(int typeId) {
+		return types[typeId];
+	}
+
+	public int typeId(int index, Element element) {
+		if (index < 0) {
+			return typeId(element);
+		}
+		int[] page = page(index >>> PAGE_BITS);
+		int offset = index & PAGE_MASK;
+		if (page[offset] == MULTIPLE_TYPES) {
+			return typeId(element);
+		}
+		int typeId = page[offset] - 1;
+		if (typeId < 0) {
+			typeId = typeId(element);
+			page[offset] = typeId + 1;
+		}
+		return typeId;
+	}
+
+	public void typeIds(int index, Element element, IntConsumer typeIds) {
+		int[] page = index >= 0 ? page(index >>> PAGE_BITS) : null;
+		int offset = index & PAGE_MASK;
+		if (page != null && page[offset] > 0) {
+			typeIds.accept(page[offset] - 1);
+			return;
+		}
+		if (typePropertyKey == null) {
+			int typeId = this.typeIds.getOrDefault(element.label(), 0);
+			if (page != null) {
+				page[offset] = typeId + 1;
+			}
+			typeIds.accept(typeId);
+			return;
+		}
+		Iterator<? extends Property<Object>> properties = element.properties(typePropertyKey);
+		if (!properties.hasNext()) {
+			if (page != null) {
+				page[offset] = 1;
+			}
+			typeIds.accept(0);
+			return;
+		}
+		int typeId = this.typeIds.getOrDefault(properties.next().value(), 0);
+		if (!properties.hasNext()) {
+			if (page != null) {
+				page[offset] = typeId + 1;
+			}
+			typeIds.accept(typeId);
+			return;
+		}
+		if (page != null) {
+			page[offset] = MULTIPLE_TYPES;
+		}
+		typeIds.accept(typeId);
+		while (properties.hasNext()) {
+			typeIds.accept(this.typeIds.getOrDefault(properties.next().value(), 0));
+		}
+	}
+
+	public int typeId(Element element) {
+		if (typePropertyKey == null) {
+			return typeIds.getOrDefault(element.label(), 0);
+		}
+		Property<Object> property = element.property(typePropertyKey);
+		return property.isPresent() ? typeIds.getOrDefault(property.value(), 0) : 0;
+	}
+
+	void add(Object type) {
+		if (!typeIds.containsKey(type)) {
+			typeIds.put(type, types.length);
+			Object[] grown = new Object[types.length + 1];
+			System.arraycopy(types, 0, grown, 0, types.length);
+			grown[types.length] = type;
+			types = grown;
+		}
+	}
+
+	private int[] page(int page) {
+		int[][] pages = this.pages;
+		if (page < pages.length && pages[page] != null) {
+			return pages[page];
+		}
+		return allocatePage(page);
+	}
+
+	private synchronized int[] allocatePage(int page) {
+		int[][] pages = this.pages;
+		if (page >= pages.length) {
+			int[][] grown = new int[Math.max(page + 1, pages.length * 2)][];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			pages[page] = new int[PAGE_SIZE];
+		}
+		this.pages = pages;
+		return pages[page];
+	}
+
+}
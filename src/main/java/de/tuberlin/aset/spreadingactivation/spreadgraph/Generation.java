@@ -5,7 +5,6 @@ import java.util.Optional;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -16,13 +15,15 @@ import de.tuberlin.aset.spreadingactivation.Execution;
 import de.tuberlin.aset.spreadingactivation.ExecutionResult;
 import de.tuberlin.aset.spreadingactivation.spreadgraph.SpreadGraph.DefaultPropertyKeyFactory;
 import de.tuberlin.aset.spreadingactivation.spreadgraph.SpreadGraph.PropertyKeyFactory;
+import de.tuberlin.aset.spreadingactivation.store.ActivationStore;
+import de.tuberlin.aset.spreadingactivation.store.PropertyActivationStore;
 import de.tuberlin.aset.spreadingactivation.util.RunnableProcess;
 
 public class Generation extends RunnableProcess {
 
 	private final ExecutionResult executionResult;
 	private final GraphTraversalSource originalTraversal;
-	private final Execution.PropertyKeyFactory originalPropertyKeyFactory;
+	private final ActivationStore originalActivationStore;
 
 	private final GraphTraversalSource traversal;
 	private final int startPulse;
@@ -40,7 +41,7 @@ public class Generation extends RunnableProcess {
 
 		this.executionResult = builder.executionResult;
 		this.originalTraversal = builder.originalTraversal;
-		this.originalPropertyKeyFactory = builder.originalPropertyKeyFactory;
+		this.originalActivationStore = builder.originalActivationStore;
 
 		this.spreadGraph = SpreadGraph.build(traversal, startPulse, endPulse, propertyKeyFactory).create();
 	}
@@ -63,30 +64,30 @@ public class Generation extends RunnableProcess {
 				if (this.isInterrupted()) {
 					break;
 				}
-				GraphTraversal<?, Vertex> receivedActivationVertices = originalTraversal.V()
-						.has(originalPropertyKeyFactory.inputActivationKey(pulse), P.gt(0d));
+				Iterator<Vertex> receivedActivationVertices = originalActivationStore
+						.receivingVertices(originalTraversal, pulse);
 				while (receivedActivationVertices.hasNext()) {
 					Vertex activatedVertex = receivedActivationVertices.next();
 					Vertex toVertex = addVertex(activatedVertex, pulse);
 
-					Iterator<Edge> edges = originalTraversal.V(activatedVertex.id()).toE(Direction.OUT)
-							.has(originalPropertyKeyFactory.edgeActivationKey(pulse, false), P.gt(0d));
+					Iterator<Edge> edges = activatedVertex.edges(Direction.OUT);
 					while (edges.hasNext()) {
 						Edge edge = edges.next();
+						if (originalActivationStore.edgeActivation(edge, pulse, false) > 0d) {
+							Vertex fromVertex = findVertex(edge.inVertex(), pulse - 1);
 
-						Vertex fromVertex = findVertex(edge.inVertex(), pulse - 1);
-
-						addEdge(edge, fromVertex, toVertex);
+							addEdge(edge, fromVertex, toVertex);
+						}
 					}
 
-					edges = originalTraversal.V(activatedVertex.id()).toE(Direction.IN)
-							.has(originalPropertyKeyFactory.edgeActivationKey(pulse, true), P.gt(0d));
+					edges = activatedVertex.edges(Direction.IN);
 					while (edges.hasNext()) {
 						Edge edge = edges.next();
+						if (originalActivationStore.edgeActivation(edge, pulse, true) > 0d) {
+							Vertex fromVertex = findVertex(edge.outVertex(), pulse - 1);
 
-						Vertex fromVertex = findVertex(edge.outVertex(), pulse - 1);
-
-						addEdge(edge, fromVertex, toVertex);
+							addEdge(edge, fromVertex, toVertex);
+						}
 					}
 				}
 			}
@@ -124,14 +125,19 @@ public class Generation extends RunnableProcess {
 
 	public static final Builder build(ExecutionResult result, GraphTraversalSource traveral,
 			Execution.PropertyKeyFactory propertyKeyFactory) {
-		return new Builder(result, traveral, propertyKeyFactory);
+		return new Builder(result, traveral, new PropertyActivationStore(propertyKeyFactory));
+	}
+
+	public static final Builder build(ExecutionResult result, GraphTraversalSource traveral,
+			ActivationStore activationStore) {
+		return new Builder(result, traveral, activationStore);
 	}
 
 	public static class Builder {
 
 		private final ExecutionResult executionResult;
 		private final GraphTraversalSource originalTraversal;
-		private final Execution.PropertyKeyFactory originalPropertyKeyFactory;
+		private final ActivationStore originalActivationStore;
 
 		private GraphTraversalSource traversal;
 		private int startPulse;
@@ -139,10 +145,10 @@ public class Generation extends RunnableProcess {
 		private PropertyKeyFactory propertyKeyFactory;
 
 		private Builder(ExecutionResult executionResult, GraphTraversalSource originalTraversal,
-				Execution.PropertyKeyFactory originalPropertyKeyFactory) {
+				ActivationStore originalActivationStore) {
 			this.executionResult = executionResult;
 			this.originalTraversal = originalTraversal;
-			this.originalPropertyKeyFactory = originalPropertyKeyFactory;
+			this.originalActivationStore = originalActivationStore;
 
 			this.startPulse = 0;
 			this.endPulse = executionResult.pulse();
@@ -0,0 +1,34 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+public interface ActivationStore {
+
+	double outputActivation(Vertex vertex, int pulse);
+
+	double edgeActivation(Edge edge, int pulse, boolean withDirection);
+
+	double inputActivation(Vertex vertex, int pulse);
+
+	double vertexActivation(Vertex vertex, int pulse);
+
+	void setOutputActivation(Vertex vertex, int pulse, double activation);
+
+	void setEdgeActivation(Edge edge, int pulse, boolean withDirection, double activation);
+
+	void setInputActivation(Vertex vertex, int pulse, double activation);
+
+	void setVertexActivation(Vertex vertex, int pulse, double activation);
+
+	GraphTraversal<?, Vertex> activatedVertices(GraphTraversalSource traversal, int pulse, double minimumActivation);
+
+	GraphTraversal<?, Vertex> receivingVertices(GraphTraversalSource traversal, int pulse);
+
+	void cleanupPulse(GraphTraversalSource traversal, int pulse);
+
+	void cleanup(GraphTraversalSource traversal, int pulses);
+
+}
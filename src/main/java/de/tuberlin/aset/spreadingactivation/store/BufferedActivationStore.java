@@ -0,0 +1,238 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
+
+public final class BufferedActivationStore implements ActivationStore {
+
+	private static final int DEFAULT_STRIPES = 64;
+
+	private static final byte OUTPUT_ACTIVATION = 0;
+	private static final byte INPUT_ACTIVATION = 1;
+	private static final byte VERTEX_ACTIVATION = 2;
+	private static final byte EDGE_ACTIVATION_WITH_DIRECTION = 3;
+	private static final byte EDGE_ACTIVATION_OPPOSITE_DIRECTION = 4;
+	private static final byte VERTEX_PROPERTY = 5;
+
+	private final ActivationStore activationStore;
+	private final Graph graph;
+	private final boolean transactional;
+	private final Stripe[] stripes;
+	private final List<Integer> stripeIndices;
+
+	public BufferedActivationStore(ActivationStore activationStore, Graph graph) {
+		this(activationStore, graph, DEFAULT_STRIPES);
+	}
+
+	public BufferedActivationStore(ActivationStore activationStore, Graph graph, int stripes) {
+		if (stripes < 1) {
+			throw new IllegalArgumentException("stripes has to be positive");
+		}
+		this.activationStore = activationStore;
+		this.graph = graph;
+		this.transactional = graph.features().graph().supportsTransactions();
+		int size = 1;
+		while (size < stripes) {
+			size <<= 1;
+		}
+		this.stripes = new Stripe[size];
+		List<Integer> stripeIndices = new ArrayList<>(this.stripes.length);
+		for (int stripe = 0; stripe < this.stripes.length; stripe++) {
+			this.stripes[stripe] = new Stripe();
+			stripeIndices.add(stripe);
+		}
+		this.stripeIndices = Collections.unmodifiableList(stripeIndices);
+	}
+
+	public ActivationStore getActivationStore() {
+		return activationStore;
+	}
+
+	public List<Integer> stripes() {
+		return stripeIndices;
+	}
+
+	public boolean isTransactional() {
+		return transactional;
+	}
+
+	public void commit() {
+		boolean applied = false;
+		for (Stripe stripe : stripes) {
+			applied |= stripe.apply(activationStore);
+		}
+		if (applied && transactional) {
+			graph.tx().commit();
+		}
+	}
+
+	public void apply(int stripe) {
+		stripes[stripe].apply(activationStore);
+	}
+
+	@Override
+	public double outputActivation(Vertex vertex, int pulse) {
+		return activationStore.outputActivation(vertex, pulse);
+	}
+
+	@Override
+	public double edgeActivation(Edge edge, int pulse, boolean withDirection) {
+		return activationStore.edgeActivation(edge, pulse, withDirection);
+	}
+
+	@Override
+	public double inputActivation(Vertex vertex, int pulse) {
+		return activationStore.inputActivation(vertex, pulse);
+	}
+
+	@Override
+	public double vertexActivation(Vertex vertex, int pulse) {
+		return activationStore.vertexActivation(vertex, pulse);
+	}
+
+	@Override
+	public void setOutputActivation(Vertex vertex, int pulse, double activation) {
+		stripe(vertex).add(vertex, OUTPUT_ACTIVATION, pulse, activation);
+	}
+
+	@Override
+	public void setEdgeActivation(Edge edge, int pulse, boolean withDirection, double activation) {
+		stripe(edge).add(edge, withDirection ? EDGE_ACTIVATION_WITH_DIRECTION : EDGE_ACTIVATION_OPPOSITE_DIRECTION,
+				pulse, activation);
+	}
+
+	@Override
+	public void setInputActivation(Vertex vertex, int pulse, double activation) {
+		stripe(vertex).add(vertex, INPUT_ACTIVATION, pulse, activation);
+	}
+
+	@Override
+	public void setVertexActivation(Vertex vertex, int pulse, double activation) {
+		stripe(vertex).add(vertex, VERTEX_ACTIVATION, pulse, activation);
+	}
+
+	public void setVertexProperty(Vertex vertex, String propertyKey, double value) {
+		stripe(vertex).add(vertex, VERTEX_PROPERTY, propertyKey, value);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> activatedVertices(GraphTraversalSource traversal, int pulse,
+			double minimumActivation) {
+		return activationStore.activatedVertices(traversal, pulse, minimumActivation);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> receivingVertices(GraphTraversalSource traversal, int pulse) {
+		return activationStore.receivingVertices(traversal, pulse);
+	}
+
+	@Override
+	public void cleanupPulse(GraphTraversalSource traversal, int pulse) {
+		activationStore.cleanupPulse(traversal, pulse);
+	}
+
+	@Override
+	public void cleanup(GraphTraversalSource traversal, int pulses) {
+		for (Stripe stripe : stripes) {
+			stripe.clear();
+		}
+		activationStore.cleanup(traversal, pulses);
+	}
+
+	private Stripe stripe(Element element) {
+		int hash = element.hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+	}
+
+	private static final class Stripe {
+
+		private Element[] elements = new Element[16];
+		private byte[] kinds = new byte[16];
+		private int[] pulses = new int[16];
+		private double[] activations = new double[16];
+		private String[] propertyKeys;
+		private int size = 0;
+
+		private synchronized void add(Element element, byte kind, int pulse, double activation) {
+			grow();
+			elements[size] = element;
+			kinds[size] = kind;
+			pulses[size] = pulse;
+			activations[size] = activation;
+			size++;
+		}
+
+		private synchronized void add(Element element, byte kind, String propertyKey, double value) {
+			grow();
+			if (propertyKeys == null) {
+				propertyKeys = new String[elements.length];
+			}
+			elements[size] = element;
+			kinds[size] = kind;
+			propertyKeys[size] = propertyKey;
+			activations[size] = value;
+			size++;
+		}
+
+		private void grow() {
+			if (size == elements.length) {
+				int capacity = size * 2;
+				elements = Arrays.copyOf(elements, capacity);
+				kinds = Arrays.copyOf(kinds, capacity);
+				pulses = Arrays.copyOf(pulses, capacity);
+				activations = Arrays.copyOf(activations, capacity);
+				if (propertyKeys != null) {
+					propertyKeys = Arrays.copyOf(propertyKeys, capacity);
+				}
+			}
+		}
+
+		private synchronized boolean apply(ActivationStore activationStore) {
+			if (size == 0) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				switch (kinds[i]) {
+				case OUTPUT_ACTIVATION:
+					activationStore.setOutputActivation((Vertex) elements[i], pulses[i], activations[i]);
+					break;
+				case INPUT_ACTIVATION:
+					activationStore.setInputActivation((Vertex) elements[i], pulses[i], activations[i]);
+					break;
+				case VERTEX_ACTIVATION:
+					activationStore.setVertexActivation((Vertex) elements[i], pulses[i], activations[i]);
+					break;
+				case VERTEX_PROPERTY:
+					((Vertex) elements[i]).property(Cardinality.single, propertyKeys[i], activations[i]);
+					break;
+				default:
+					activationStore.setEdgeActivation((Edge) elements[i], pulses[i],
+							kinds[i] == EDGE_ACTIVATION_WITH_DIRECTION, activations[i]);
+					break;
+				}
+			}
+			clear();
+			return true;
+		}
+
+		private synchronized void clear() {
+			Arrays.fill(elements, 0, size, null);
+			if (propertyKeys != null) {
+				Arrays.fill(propertyKeys, 0, size, null);
+			}
+			size = 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,26 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+public class HeapActivationStore extends IndexedActivationStore {
+
+	@Override
+	protected Column<?> createColumn() {
+		return new Column<double[]>() {
+
+			@Override
+			protected double[] createPage(int size) {
+				return new double[size];
+			}
+
+			@Override
+			protected double get(double[] page, int offset) {
+				return page[offset];
+			}
+
+			@Override
+			protected void set(double[] page, int offset, double value) {
+				page[offset] = value;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,229 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import de.tuberlin.aset.spreadingactivation.util.ElementIndex;
+
+public abstract class IndexedActivationStore implements ActivationStore {
+
+	private static final int OUTPUT_ACTIVATION = 0;
+	private static final int INPUT_ACTIVATION = 1;
+	private static final int VERTEX_ACTIVATION = 2;
+	private static final int EDGE_ACTIVATION_WITH_DIRECTION = 3;
+	private static final int EDGE_ACTIVATION_OPPOSITE_DIRECTION = 4;
+
+	private final ElementIndex vertexIndex = new ElementIndex();
+	private final ElementIndex edgeIndex = new ElementIndex();
+
+	private volatile Column<?>[][] columns = new Column<?>[5][0];
+
+	protected abstract Column<?> createColumn();
+
+	@Override
+	public double outputActivation(Vertex vertex, int pulse) {
+		return get(OUTPUT_ACTIVATION, vertexIndex.indexIfPresent(vertex.id()), pulse);
+	}
+
+	@Override
+	public double edgeActivation(Edge edge, int pulse, boolean withDirection) {
+		return get(withDirection ? EDGE_ACTIVATION_WITH_DIRECTION : EDGE_ACTIVATION_OPPOSITE_DIRECTION,
+				edgeIndex.indexIfPresent(edge.id()), pulse);
+	}
+
+	@Override
+	public double inputActivation(Vertex vertex, int pulse) {
+		return get(INPUT_ACTIVATION, vertexIndex.indexIfPresent(vertex.id()), pulse);
+	}
+
+	@Override
+	public double vertexActivation(Vertex vertex, int pulse) {
+		return get(VERTEX_ACTIVATION, vertexIndex.indexIfPresent(vertex.id()), pulse);
+	}
+
+	@Override
+	public void setOutputActivation(Vertex vertex, int pulse, double activation) {
+		set(OUTPUT_ACTIVATION, vertexIndex.index(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public void setEdgeActivation(Edge edge, int pulse, boolean withDirection, double activation) {
+		set(withDirection ? EDGE_ACTIVATION_WITH_DIRECTION : EDGE_ACTIVATION_OPPOSITE_DIRECTION,
+				edgeIndex.index(edge.id()), pulse, activation);
+	}
+
+	@Override
+	public void setInputActivation(Vertex vertex, int pulse, double activation) {
+		set(INPUT_ACTIVATION, vertexIndex.index(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public void setVertexActivation(Vertex vertex, int pulse, double activation) {
+		set(VERTEX_ACTIVATION, vertexIndex.index(vertex.id()), pulse, activation);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> activatedVertices(GraphTraversalSource traversal, int pulse,
+			double minimumActivation) {
+		Column<?> column = column(VERTEX_ACTIVATION, pulse);
+		List<Object> ids = new ArrayList<>();
+		if (column != null) {
+			int size = vertexIndex.size();
+			for (int index = 0; index < size; index++) {
+				double activation = column.get(index);
+				if (activation != 0d && activation >= minimumActivation) {
+					ids.add(vertexIndex.id(index));
+				}
+			}
+		}
+		return vertices(traversal, ids);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> receivingVertices(GraphTraversalSource traversal, int pulse) {
+		Column<?> column = column(INPUT_ACTIVATION, pulse);
+		List<Object> ids = new ArrayList<>();
+		if (column != null) {
+			int size = vertexIndex.size();
+			for (int index = 0; index < size; index++) {
+				if (column.get(index) > 0d) {
+					ids.add(vertexIndex.id(index));
+				}
+			}
+		}
+		return vertices(traversal, ids);
+	}
+
+	@Override
+	public synchronized void cleanupPulse(GraphTraversalSource traversal, int pulse) {
+		for (Column<?>[] pulseColumns : columns) {
+			if (pulse >= 0 && pulse < pulseColumns.length && pulseColumns[pulse] != null) {
+				pulseColumns[pulse].release();
+				pulseColumns[pulse] = null;
+			}
+		}
+	}
+
+	@Override
+	public synchronized void cleanup(GraphTraversalSource traversal, int pulses) {
+		for (Column<?>[] pulseColumns : columns) {
+			for (Column<?> column : pulseColumns) {
+				if (column != null) {
+					column.release();
+				}
+			}
+		}
+		columns = new Column<?>[5][0];
+		vertexIndex.clear();
+		edgeIndex.clear();
+	}
+
+	private GraphTraversal<?, Vertex> vertices(GraphTraversalSource traversal, List<Object> ids) {
+		if (ids.isEmpty()) {
+			return traversal.V().limit(0);
+		}
+		return traversal.V(ids.toArray());
+	}
+
+	private double get(int kind, int index, int pulse) {
+		if (index < 0) {
+			return 0d;
+		}
+		Column<?> column = column(kind, pulse);
+		return column != null ? column.get(index) : 0d;
+	}
+
+	private void set(int kind, int index, int pulse, double activation) {
+		Column<?> column = column(kind, pulse);
+		if (column == null) {
+			column = createColumn(kind, pulse);
+		}
+		column.set(index, activation);
+	}
+
+	private Column<?> column(int kind, int pulse) {
+		Column<?>[] pulseColumns = columns[kind];
+		if (pulse < 0 || pulse >= pulseColumns.length) {
+			return null;
+		}
+		return pulseColumns[pulse];
+	}
+
+	private synchronized Column<?> createColumn(int kind, int pulse) {
+		Column<?>[][] columns = this.columns;
+		Column<?>[] pulseColumns = columns[kind];
+		if (pulse >= pulseColumns.length) {
+			Column<?>[] grown = new Column<?>[pulse + 1];
+			System.arraycopy(pulseColumns, 0, grown, 0, pulseColumns.length);
+			pulseColumns = grown;
+			columns[kind] = pulseColumns;
+		}
+		if (pulseColumns[pulse] == null) {
+			pulseColumns[pulse] = createColumn();
+		}
+		this.columns = columns;
+		return pulseColumns[pulse];
+	}
+
+	protected static abstract class Column<PAGE> {
+
+		private static final int PAGE_BITS = 12;
+		private static final int PAGE_SIZE = 1 << PAGE_BITS;
+		private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+		private volatile Object[] pages = new Object[16];
+
+		protected abstract PAGE createPage(int size);
+
+		protected abstract double get(PAGE page, int offset);
+
+		protected abstract void set(PAGE page, int offset, double value);
+
+		@SuppressWarnings("unchecked")
+		final double get(int index) {
+			Object[] pages = this.pages;
+			int page = index >>> PAGE_BITS;
+			if (page >= pages.length || pages[page] == null) {
+				return 0d;
+			}
+			return get((PAGE) pages[page], index & PAGE_MASK);
+		}
+
+		@SuppressWarnings("unchecked")
+		final void set(int index, double value) {
+			Object[] pages = this.pages;
+			int page = index >>> PAGE_BITS;
+			if (page >= pages.length || pages[page] == null) {
+				set(allocatePage(page), index & PAGE_MASK, value);
+			} else {
+				set((PAGE) pages[page], index & PAGE_MASK, value);
+			}
+		}
+
+		final synchronized void release() {
+			pages = new Object[16];
+		}
+
+		@SuppressWarnings("unchecked")
+		private synchronized PAGE allocatePage(int page) {
+			Object[] pages = this.pages;
+			if (page >= pages.length) {
+				Object[] grown = new Object[Math.max(page + 1, pages.length * 2)];
+				System.arraycopy(pages, 0, grown, 0, pages.length);
+				pages = grown;
+			}
+			if (pages[page] == null) {
+				pages[page] = createPage(PAGE_SIZE);
+			}
+			this.pages = pages;
+			return (PAGE) pages[page];
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+public class OffHeapActivationStore extends IndexedActivationStore {
+
+	@Override
+	protected Column<?> createColumn() {
+		return new Column<DoubleBuffer>() {
+
+			@Override
+			protected DoubleBuffer createPage(int size) {
+				return ByteBuffer.allocateDirect(size * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+			}
+
+			@Override
+			protected double get(DoubleBuffer page, int offset) {
+				return page.get(offset);
+			}
+
+			@Override
+			protected void set(DoubleBuffer page, int offset, double value) {
+				page.put(offset, value);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,153 @@
+package de.tuberlin.aset.spreadingactivation.store;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
+
+import de.tuberlin.aset.spreadingactivation.Execution.PropertyKeyFactory;
+
+public class PropertyActivationStore implements ActivationStore {
+
+	private final PropertyKeyFactory propertyKeyFactory;
+	private final boolean trackedPulses;
+	private final Map<Integer, Set<Vertex>> writtenVertices = new ConcurrentHashMap<>();
+	private final Map<Integer, Set<Edge>> writtenEdges = new ConcurrentHashMap<>();
+
+	public PropertyActivationStore(PropertyKeyFactory propertyKeyFactory) {
+		this(propertyKeyFactory, false);
+	}
+
+	public PropertyActivationStore(PropertyKeyFactory propertyKeyFactory, boolean trackedPulses) {
+		this.propertyKeyFactory = propertyKeyFactory;
+		this.trackedPulses = trackedPulses;
+	}
+
+	public PropertyKeyFactory getPropertyKeyFactory() {
+		return propertyKeyFactory;
+	}
+
+	public boolean isTrackedPulses() {
+		return trackedPulses;
+	}
+
+	@Override
+	public double outputActivation(Vertex vertex, int pulse) {
+		return activation(vertex, propertyKeyFactory.outputActivationKey(pulse));
+	}
+
+	@Override
+	public double edgeActivation(Edge edge, int pulse, boolean withDirection) {
+		return activation(edge, propertyKeyFactory.edgeActivationKey(pulse, withDirection));
+	}
+
+	@Override
+	public double inputActivation(Vertex vertex, int pulse) {
+		return activation(vertex, propertyKeyFactory.inputActivationKey(pulse));
+	}
+
+	@Override
+	public double vertexActivation(Vertex vertex, int pulse) {
+		return activation(vertex, propertyKeyFactory.vertexActivationKey(pulse));
+	}
+
+	@Override
+	public void setOutputActivation(Vertex vertex, int pulse, double activation) {
+		vertex.property(Cardinality.single, propertyKeyFactory.outputActivationKey(pulse), activation);
+		written(writtenVertices, pulse, vertex);
+	}
+
+	@Override
+	public void setEdgeActivation(Edge edge, int pulse, boolean withDirection, double activation) {
+		edge.property(propertyKeyFactory.edgeActivationKey(pulse, withDirection), activation);
+		written(writtenEdges, pulse, edge);
+	}
+
+	@Override
+	public void setInputActivation(Vertex vertex, int pulse, double activation) {
+		vertex.property(Cardinality.single, propertyKeyFactory.inputActivationKey(pulse), activation);
+		written(writtenVertices, pulse, vertex);
+	}
+
+	@Override
+	public void setVertexActivation(Vertex vertex, int pulse, double activation) {
+		vertex.property(Cardinality.single, propertyKeyFactory.vertexActivationKey(pulse), activation);
+		written(writtenVertices, pulse, vertex);
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> activatedVertices(GraphTraversalSource traversal, int pulse,
+			double minimumActivation) {
+		String vertexActivationKey = propertyKeyFactory.vertexActivationKey(pulse);
+		if (minimumActivation == Double.NEGATIVE_INFINITY) {
+			return traversal.V().has(vertexActivationKey);
+		}
+		return traversal.V().has(vertexActivationKey, P.gte(minimumActivation));
+	}
+
+	@Override
+	public GraphTraversal<?, Vertex> receivingVertices(GraphTraversalSource traversal, int pulse) {
+		return traversal.V().has(propertyKeyFactory.inputActivationKey(pulse), P.gt(0d));
+	}
+
+	@Override
+	public void cleanupPulse(GraphTraversalSource traversal, int pulse) {
+		if (!trackedPulses) {
+			traversal.V()
+					.properties(propertyKeyFactory.outputActivationKey(pulse),
+							propertyKeyFactory.inputActivationKey(pulse), propertyKeyFactory.vertexActivationKey(pulse))
+					.drop().iterate();
+			traversal.E().properties(propertyKeyFactory.edgeActivationKey(pulse, true),
+					propertyKeyFactory.edgeActivationKey(pulse, false)).drop().iterate();
+			return;
+		}
+		Set<Vertex> vertices = writtenVertices.remove(pulse);
+		if (vertices != null) {
+			String[] vertexKeys = { propertyKeyFactory.outputActivationKey(pulse),
+					propertyKeyFactory.inputActivationKey(pulse), propertyKeyFactory.vertexActivationKey(pulse) };
+			for (Vertex vertex : vertices) {
+				vertex.properties(vertexKeys).forEachRemaining(Property::remove);
+			}
+		}
+		Set<Edge> edges = writtenEdges.remove(pulse);
+		if (edges != null) {
+			String[] edgeKeys = { propertyKeyFactory.edgeActivationKey(pulse, true),
+					propertyKeyFactory.edgeActivationKey(pulse, false) };
+			for (Edge edge : edges) {
+				edge.properties(edgeKeys).forEachRemaining(Property::remove);
+			}
+		}
+	}
+
+	@Override
+	public void cleanup(GraphTraversalSource traversal, int pulses) {
+		writtenVertices.clear();
+		writtenEdges.clear();
+		propertyKeyFactory.cleanupProperties(traversal, pulses);
+	}
+
+	private <E extends Element> void written(Map<Integer, Set<E>> writtenElements, int pulse, E element) {
+		if (!trackedPulses) {
+			return;
+		}
+		Set<E> elements = writtenElements.get(pulse);
+		if (elements == null) {
+			elements = writtenElements.computeIfAbsent(pulse, key -> ConcurrentHashMap.newKeySet());
+		}
+		elements.add(element);
+	}
+
+	private double activation(Element element, String propertyKey) {
+		Property<?> property = element.property(propertyKey);
+		return property.isPresent() ? (double) property.value() : 0d;
+	}
+
+}
@@ -0,0 +1,88 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.Arrays;
+
+public final class ActivationHistogram {
+
+	private static final int SHIFT = 51;
+	private static final int BUCKETS = 1 << (64 - SHIFT - 1);
+
+	private final double[] activations;
+	private final int[] degrees;
+	private final int size;
+
+	private final int[] vertexCounts = new int[BUCKETS];
+	private final long[] edgeCounts = new long[BUCKETS];
+	private int highestBucket = -1;
+
+	public ActivationHistogram(double[] activations, int[] degrees, int size) {
+		this.activations = activations;
+		this.degrees = degrees;
+		this.size = size;
+		for (int i = 0; i < size; i++) {
+			int bucket = bucket(activations[i]);
+			vertexCounts[bucket]++;
+			edgeCounts[bucket] += degrees[i];
+			highestBucket = Math.max(highestBucket, bucket);
+		}
+	}
+
+	public double threshold(long vertexBudget, long edgeBudget) {
+		long vertices = 0;
+		long edges = 0;
+		for (int bucket = highestBucket; bucket >= 0; bucket--) {
+			if (vertexCounts[bucket] == 0) {
+				continue;
+			}
+			if (vertices + vertexCounts[bucket] > vertexBudget || edges + edgeCounts[bucket] > edgeBudget) {
+				return threshold(bucket, vertexBudget - vertices, edgeBudget - edges, vertices == 0);
+			}
+			vertices += vertexCounts[bucket];
+			edges += edgeCounts[bucket];
+		}
+		return Double.NEGATIVE_INFINITY;
+	}
+
+	private double threshold(int bucket, long vertexBudget, long edgeBudget, boolean empty) {
+		double[] values = new double[vertexCounts[bucket]];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (bucket(activations[i]) == bucket) {
+				values[count++] = activations[i];
+			}
+		}
+		Arrays.sort(values);
+		int distinct = 0;
+		for (int i = 0; i < count; i++) {
+			if (distinct == 0 || values[distinct - 1] != values[i]) {
+				values[distinct++] = values[i];
+			}
+		}
+		int[] vertices = new int[distinct];
+		long[] edges = new long[distinct];
+		for (int i = 0; i < size; i++) {
+			if (bucket(activations[i]) == bucket) {
+				int value = Arrays.binarySearch(values, 0, distinct, activations[i]);
+				vertices[value]++;
+				edges[value] += degrees[i];
+			}
+		}
+
+		double threshold = Double.longBitsToDouble((long) (bucket + 1) << SHIFT);
+		for (int value = distinct - 1; value >= 0; value--) {
+			if (!empty && (vertices[value] > vertexBudget || edges[value] > edgeBudget)) {
+				break;
+			}
+			threshold = values[value];
+			vertexBudget -= vertices[value];
+			edgeBudget -= edges[value];
+			empty = false;
+		}
+		return threshold;
+	}
+
+	private static int bucket(double activation) {
+		return activation > 0d ? (int) (Double.doubleToRawLongBits(activation) >>> SHIFT) : 0;
+	}
+
+}
@@ -0,0 +1,76 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public class BatchSizer {
+
+	private static final long TARGET_BATCH_NANOS = 100_000L;
+	private static final double SMOOTHING = 0.25d;
+	private static final int INITIAL_BATCH_SIZE = 64;
+	private static final int BATCHES_PER_WORKER = 4;
+
+	private final Integer fixedBatchSize;
+
+	private volatile double nanosPerItem = Double.NaN;
+
+	public BatchSizer() {
+		this(null);
+	}
+
+	public BatchSizer(Integer fixedBatchSize) {
+		if (fixedBatchSize != null && fixedBatchSize < 1) {
+			throw new IllegalArgumentException("batch size has to be positive");
+		}
+		this.fixedBatchSize = fixedBatchSize;
+	}
+
+	public int batchSize(int items) {
+		if (fixedBatchSize != null) {
+			return fixedBatchSize;
+		}
+		double nanosPerItem = this.nanosPerItem;
+		long batchSize = Double.isNaN(nanosPerItem) ? INITIAL_BATCH_SIZE
+				: (long) (TARGET_BATCH_NANOS / Math.max(nanosPerItem, 1d));
+		return (int) Math.max(1L, Math.min(batchSize, Math.max(items, 1)));
+	}
+
+	public int batchSize(int items, int parallelism) {
+		int batchSize = batchSize(items);
+		if (fixedBatchSize != null || parallelism < 1) {
+			return batchSize;
+		}
+		long batches = (long) parallelism * BATCHES_PER_WORKER;
+		return (int) Math.max(1L, Math.min(batchSize, (items + batches - 1) / batches));
+	}
+
+	public void measured(int items, long nanos) {
+		if (fixedBatchSize != null || items <= 0) {
+			return;
+		}
+		double measured = (double) nanos / items;
+		double nanosPerItem = this.nanosPerItem;
+		if (Double.isNaN(nanosPerItem)) {
+			this.nanosPerItem = measured;
+		} else {
+			this.nanosPerItem = nanosPerItem + SMOOTHING * (measured - nanosPerItem);
+		}
+	}
+
+	public boolean isAdaptive() {
+		return fixedBatchSize == null;
+	}
+
+	public double nanosPerItem() {
+		return nanosPerItem;
+	}
+
+	public <T> void run(List<T> items, int start, int end, Consumer<? super T> task) {
+		long startTime = System.nanoTime();
+		for (int i = start; i < end; i++) {
+			task.accept(items.get(i));
+		}
+		measured(end - start, System.nanoTime() - startTime);
+	}
+
+}
@@ -0,0 +1,66 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class ConcurrentBitSet {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private volatile AtomicLongArray[] pages = new AtomicLongArray[16];
+
+	public void set(int index) {
+		int word = index >>> 6;
+		AtomicLongArray page = page(word >>> PAGE_BITS);
+		long bit = 1L << index;
+		int offset = word & PAGE_MASK;
+		long value = page.get(offset);
+		while ((value & bit) == 0L && !page.compareAndSet(offset, value, value | bit)) {
+			value = page.get(offset);
+		}
+	}
+
+	public boolean get(int index) {
+		int word = index >>> 6;
+		AtomicLongArray[] pages = this.pages;
+		int page = word >>> PAGE_BITS;
+		if (page >= pages.length || pages[page] == null) {
+			return false;
+		}
+		return (pages[page].get(word & PAGE_MASK) & (1L << index)) != 0L;
+	}
+
+	public synchronized void clear() {
+		for (AtomicLongArray page : pages) {
+			if (page != null) {
+				for (int i = 0; i < PAGE_SIZE; i++) {
+					page.lazySet(i, 0L);
+				}
+			}
+		}
+	}
+
+	private AtomicLongArray page(int page) {
+		AtomicLongArray[] pages = this.pages;
+		if (page < pages.length && pages[page] != null) {
+			return pages[page];
+		}
+		return allocatePage(page);
+	}
+
+	private synchronized AtomicLongArray allocatePage(int page) {
+		AtomicLongArray[] pages = this.pages;
+		if (page >= pages.length) {
+			AtomicLongArray[] grown = new AtomicLongArray[Math.max(page + 1, pages.length * 2)];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			pages[page] = new AtomicLongArray(PAGE_SIZE);
+		}
+		this.pages = pages;
+		return pages[page];
+	}
+
+}
@@ -0,0 +1,60 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+public final class DegreeIndex {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final ElementIndex vertexIndex = new ElementIndex();
+
+	private volatile int[][] pages = new int[16][];
+
+	public int degree(Vertex vertex) {
+		int index = vertexIndex.index(vertex.id());
+		int[] page = page(index >>> PAGE_BITS);
+		int offset = index & PAGE_MASK;
+		int degree = page[offset] - 1;
+		if (degree < 0) {
+			degree = (int) IteratorUtils.count(vertex.edges(Direction.BOTH));
+			page[offset] = degree + 1;
+		}
+		return degree;
+	}
+
+	public int size() {
+		return vertexIndex.size();
+	}
+
+	public synchronized void clear() {
+		vertexIndex.clear();
+		pages = new int[16][];
+	}
+
+	private int[] page(int page) {
+		int[][] pages = this.pages;
+		if (page < pages.length && pages[page] != null) {
+			return pages[page];
+		}
+		return allocatePage(page);
+	}
+
+	private synchronized int[] allocatePage(int page) {
+		int[][] pages = this.pages;
+		if (page >= pages.length) {
+			int[][] grown = new int[Math.max(page + 1, pages.length * 2)][];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			pages[page] = new int[PAGE_SIZE];
+		}
+		this.pages = pages;
+		return pages[page];
+	}
+
+}
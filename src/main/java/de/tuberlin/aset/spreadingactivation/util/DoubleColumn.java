@@ -0,0 +1,64 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.Arrays;
+
+public final class DoubleColumn {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final double defaultValue;
+
+	private volatile double[][] pages = new double[16][];
+
+	public DoubleColumn() {
+		this(Double.NaN);
+	}
+
+	public DoubleColumn(double defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	public double get(int index) {
+		double[][] pages = this.pages;
+		int page = index >>> PAGE_BITS;
+		if (page >= pages.length || pages[page] == null) {
+			return defaultValue;
+		}
+		return pages[page][index & PAGE_MASK];
+	}
+
+	public void set(int index, double value) {
+		page(index >>> PAGE_BITS)[index & PAGE_MASK] = value;
+	}
+
+	public synchronized void clear() {
+		pages = new double[16][];
+	}
+
+	private double[] page(int page) {
+		double[][] pages = this.pages;
+		if (page < pages.length && pages[page] != null) {
+			return pages[page];
+		}
+		return allocatePage(page);
+	}
+
+	private synchronized double[] allocatePage(int page) {
+		double[][] pages = this.pages;
+		if (page >= pages.length) {
+			double[][] grown = new double[Math.max(page + 1, pages.length * 2)][];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			double[] values = new double[PAGE_SIZE];
+			Arrays.fill(values, defaultValue);
+			pages[page] = values;
+		}
+		this.pages = pages;
+		return pages[page];
+	}
+
+}
@@ -0,0 +1,61 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class ElementIndex {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final ConcurrentMap<Object, Integer> indices = new ConcurrentHashMap<>();
+
+	private volatile Object[][] pages = new Object[16][];
+	private int size = 0;
+
+	public int index(Object id) {
+		Integer index = indices.get(id);
+		if (index != null) {
+			return index;
+		}
+		return indices.computeIfAbsent(id, this::add);
+	}
+
+	public int indexIfPresent(Object id) {
+		Integer index = indices.get(id);
+		return index != null ? index : -1;
+	}
+
+	public Object id(int index) {
+		return pages[index >>> PAGE_BITS][index & PAGE_MASK];
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized void clear() {
+		indices.clear();
+		pages = new Object[16][];
+		size = 0;
+	}
+
+	private synchronized int add(Object id) {
+		int index = size++;
+		int page = index >>> PAGE_BITS;
+		Object[][] pages = this.pages;
+		if (page == pages.length) {
+			Object[][] grown = new Object[pages.length * 2][];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			pages[page] = new Object[PAGE_SIZE];
+		}
+		pages[page][index & PAGE_MASK] = id;
+		this.pages = pages;
+		return index;
+	}
+
+}
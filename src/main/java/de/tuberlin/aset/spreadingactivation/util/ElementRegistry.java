@@ -0,0 +1,69 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+public final class ElementRegistry<E extends Element> {
+
+	private static final int PAGE_BITS = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final ElementIndex index = new ElementIndex();
+
+	private volatile Object[][] pages = new Object[16][];
+
+	public int index(E element) {
+		int index = this.index.index(element.id());
+		Object[] page = page(index >>> PAGE_BITS);
+		if (page[index & PAGE_MASK] == null) {
+			page[index & PAGE_MASK] = element;
+		}
+		return index;
+	}
+
+	public int indexIfPresent(Object id) {
+		return index.indexIfPresent(id);
+	}
+
+	@SuppressWarnings("unchecked")
+	public E element(int index) {
+		Object[][] pages = this.pages;
+		int page = index >>> PAGE_BITS;
+		if (index < 0 || page >= pages.length || pages[page] == null) {
+			return null;
+		}
+		return (E) pages[page][index & PAGE_MASK];
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	public synchronized void clear() {
+		index.clear();
+		pages = new Object[16][];
+	}
+
+	private Object[] page(int page) {
+		Object[][] pages = this.pages;
+		if (page < pages.length && pages[page] != null) {
+			return pages[page];
+		}
+		return allocatePage(page);
+	}
+
+	private synchronized Object[] allocatePage(int page) {
+		Object[][] pages = this.pages;
+		if (page >= pages.length) {
+			Object[][] grown = new Object[Math.max(page + 1, pages.length * 2)][];
+			System.arraycopy(pages, 0, grown, 0, pages.length);
+			pages = grown;
+		}
+		if (pages[page] == null) {
+			pages[page] = new Object[PAGE_SIZE];
+		}
+		this.pages = pages;
+		return pages[page];
+	}
+
+}
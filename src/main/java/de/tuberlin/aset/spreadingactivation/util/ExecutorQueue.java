@@ -4,12 +4,14 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
-public class ExecutorQueue {
+public class ExecutorQueue implements PhaseScheduler {
 
 	private final ExecutorService executor;
 	private final int maxParallelTasks;
@@ -32,6 +34,28 @@ public class ExecutorQueue {
 		executeNext();
 	}
 
+	@Override
+	public <T> void submit(List<T> items, BatchSizer batchSizer, Consumer<? super T> task) {
+		submit(new Iterator<Runnable>() {
+
+			private int start = 0;
+
+			@Override
+			public boolean hasNext() {
+				return start < items.size();
+			}
+
+			@Override
+			public Runnable next() {
+				int start = this.start;
+				int end = Math.min(items.size(), start + batchSizer.batchSize(items.size(), maxParallelTasks));
+				this.start = end;
+				return () -> batchSizer.run(items, start, end, task);
+			}
+
+		});
+	}
+
 	public synchronized void interrupt() {
 		interrupted = true;
 		tasksQueue.clear();
@@ -110,6 +134,11 @@ public class ExecutorQueue {
 		}
 	}
 
+	@Override
+	public void awaitPhase() throws InterruptedException, ExecutionException {
+		awaitCompleted();
+	}
+
 	private static class RunnableTask implements Runnable {
 
 		private ExecutorQueue queue;
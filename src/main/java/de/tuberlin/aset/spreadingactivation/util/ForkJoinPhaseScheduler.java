@@ -0,0 +1,126 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class ForkJoinPhaseScheduler implements PhaseScheduler {
+
+	private final ForkJoinPool pool;
+
+	private final AtomicInteger pendingTasks = new AtomicInteger();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	public ForkJoinPhaseScheduler(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public <T> void submit(List<T> items, BatchSizer batchSizer, Consumer<? super T> task) {
+		if (items.isEmpty()) {
+			return;
+		}
+		int batchSize = batchSizer.batchSize(items.size(), pool.getParallelism());
+		boolean inPool = ForkJoinTask.getPool() == pool;
+		if (inPool && items.size() <= batchSize) {
+			batchSizer.run(items, 0, items.size(), task);
+			return;
+		}
+		RangeTask<T> rangeTask = new RangeTask<>(items, batchSize, batchSizer, task);
+		pendingTasks.incrementAndGet();
+		if (inPool) {
+			rangeTask.fork();
+		} else {
+			pool.execute(rangeTask);
+		}
+	}
+
+	@Override
+	public void awaitPhase() throws InterruptedException, ExecutionException {
+		synchronized (this) {
+			while (pendingTasks.get() > 0) {
+				wait();
+			}
+		}
+		Throwable throwable = failure.getAndSet(null);
+		if (throwable != null) {
+			throw new ExecutionException(throwable);
+		}
+	}
+
+	private void finishedTask() {
+		if (pendingTasks.decrementAndGet() == 0) {
+			synchronized (this) {
+				notifyAll();
+			}
+		}
+	}
+
+	private class RangeTask<T> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<T> items;
+		private final int batchSize;
+		private final BatchSizer batchSizer;
+		private final Consumer<? super T> task;
+
+		private RangeTask(List<T> items, int batchSize, BatchSizer batchSizer, Consumer<? super T> task) {
+			this.items = items;
+			this.batchSize = batchSize;
+			this.batchSizer = batchSizer;
+			this.task = task;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				run(0, items.size());
+			} catch (Throwable throwable) {
+				failure.compareAndSet(null, throwable);
+			} finally {
+				finishedTask();
+			}
+		}
+
+		private void run(int start, int end) {
+			if (end - start > batchSize) {
+				int middle = (start + end) >>> 1;
+				ForkJoinTask<Void> right = new SplitTask(middle, end).fork();
+				try {
+					run(start, middle);
+				} finally {
+					right.join();
+				}
+			} else {
+				batchSizer.run(items, start, end, task);
+			}
+		}
+
+		private class SplitTask extends RecursiveAction {
+
+			private static final long serialVersionUID = 1L;
+
+			private final int start;
+			private final int end;
+
+			private SplitTask(int start, int end) {
+				this.start = start;
+				this.end = end;
+			}
+
+			@Override
+			protected void compute() {
+				run(start, end);
+			}
+
+		}
+
+	}
+
+}
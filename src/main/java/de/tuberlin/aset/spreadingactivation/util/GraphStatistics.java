@@ -0,0 +1,109 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+public final class GraphStatistics {
+
+	private final GraphTraversalSource traversal;
+
+	private volatile long vertexCount = -1;
+	private volatile long edgeCount = -1;
+	private volatile DegreeIndex degreeIndex = new DegreeIndex();
+
+	public GraphStatistics(GraphTraversalSource traversal) {
+		this.traversal = traversal;
+	}
+
+	public long vertexCount() {
+		long vertexCount = this.vertexCount;
+		if (vertexCount < 0) {
+			vertexCount = traversal.V().count().next();
+			this.vertexCount = vertexCount;
+		}
+		return vertexCount;
+	}
+
+	public long edgeCount() {
+		long edgeCount = this.edgeCount;
+		if (edgeCount < 0) {
+			edgeCount = traversal.E().count().next();
+			this.edgeCount = edgeCount;
+		}
+		return edgeCount;
+	}
+
+	public int degree(Vertex vertex) {
+		return degreeIndex.degree(vertex);
+	}
+
+	public void invalidate() {
+		vertexCount = -1;
+		edgeCount = -1;
+		degreeIndex = new DegreeIndex();
+	}
+
+	public MutationListener mutationListener() {
+		return new InvalidatingMutationListener();
+	}
+
+	private final class InvalidatingMutationListener implements MutationListener {
+
+		@Override
+		public void vertexAdded(Vertex vertex) {
+			invalidate();
+		}
+
+		@Override
+		public void vertexRemoved(Vertex vertex) {
+			invalidate();
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void vertexPropertyChanged(Vertex element, VertexProperty oldValue, Object setValue,
+				Object... vertexPropertyKeyValues) {
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void vertexPropertyRemoved(VertexProperty vertexProperty) {
+		}
+
+		@Override
+		public void edgeAdded(Edge edge) {
+			invalidate();
+		}
+
+		@Override
+		public void edgeRemoved(Edge edge) {
+			invalidate();
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void edgePropertyChanged(Edge element, Property oldValue, Object setValue) {
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void edgePropertyRemoved(Edge element, Property property) {
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void vertexPropertyPropertyChanged(VertexProperty element, Property oldValue, Object setValue) {
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void vertexPropertyPropertyRemoved(VertexProperty element, Property property) {
+		}
+
+	}
+
+}
@@ -0,0 +1,52 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import de.tuberlin.aset.spreadingactivation.mode.Purity.Dependency;
+
+public final class ModeCache {
+
+	private final Dependency dependency;
+	private final DoubleColumn values;
+
+	private volatile double constant = Double.NaN;
+
+	public ModeCache(Object mode) {
+		this.dependency = Dependency.of(mode);
+		this.values = dependency == Dependency.ELEMENT || dependency == Dependency.PULSE ? new DoubleColumn() : null;
+	}
+
+	public Dependency dependency() {
+		return dependency;
+	}
+
+	public boolean isCached() {
+		return dependency != null && dependency != Dependency.PULSE_AND_ELEMENT && dependency != Dependency.INPUT;
+	}
+
+	public boolean isElementDependent() {
+		return dependency == Dependency.ELEMENT;
+	}
+
+	public double get(int pulse, int element) {
+		if (dependency == Dependency.CONSTANT) {
+			return constant;
+		}
+		if (dependency == Dependency.ELEMENT) {
+			return values.get(element);
+		}
+		if (dependency == Dependency.PULSE) {
+			return values.get(pulse);
+		}
+		return Double.NaN;
+	}
+
+	public void put(int pulse, int element, double value) {
+		if (dependency == Dependency.CONSTANT) {
+			constant = value;
+		} else if (dependency == Dependency.ELEMENT) {
+			values.set(element, value);
+		} else if (dependency == Dependency.PULSE) {
+			values.set(pulse, value);
+		}
+	}
+
+}
@@ -0,0 +1,13 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+public interface PhaseScheduler {
+
+	<T> void submit(List<T> items, BatchSizer batchSizer, Consumer<? super T> task);
+
+	void awaitPhase() throws InterruptedException, ExecutionException;
+
+}
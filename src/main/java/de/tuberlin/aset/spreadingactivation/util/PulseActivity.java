@@ -0,0 +1,45 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+public final class PulseActivity {
+
+	private Bits current = new Bits();
+	private Bits last = new Bits();
+
+	public void edgeActivated(int edge, boolean withDirection) {
+		(withDirection ? current.edgesWithDirection : current.edgesOppositeDirection).set(edge);
+	}
+
+	public void vertexReceived(int vertex) {
+		current.receivingVertices.set(vertex);
+	}
+
+	public boolean edgeActivatedLastPulse(int edge, boolean withDirection) {
+		return (withDirection ? last.edgesWithDirection : last.edgesOppositeDirection).get(edge);
+	}
+
+	public boolean vertexReceivedLastPulse(int vertex) {
+		return last.receivingVertices.get(vertex);
+	}
+
+	public void nextPulse() {
+		Bits bits = last;
+		last = current;
+		current = bits;
+		current.clear();
+	}
+
+	private static final class Bits {
+
+		private final ConcurrentBitSet edgesWithDirection = new ConcurrentBitSet();
+		private final ConcurrentBitSet edgesOppositeDirection = new ConcurrentBitSet();
+		private final ConcurrentBitSet receivingVertices = new ConcurrentBitSet();
+
+		private void clear() {
+			edgesWithDirection.clear();
+			edgesOppositeDirection.clear();
+			receivingVertices.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,64 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+public final class PulseStatistics {
+
+	private final int pulse;
+	private final double activationSum;
+	private final double deltaSum;
+	private final double deltaMaximum;
+	private final int activeVertices;
+	private final long processedEdges;
+	private final long totalProcessedEdges;
+	private final long elapsedNanos;
+	private final long totalElapsedNanos;
+
+	public PulseStatistics(int pulse, double activationSum, double deltaSum, double deltaMaximum, int activeVertices,
+			long processedEdges, long totalProcessedEdges, long elapsedNanos, long totalElapsedNanos) {
+		this.pulse = pulse;
+		this.activationSum = activationSum;
+		this.deltaSum = deltaSum;
+		this.deltaMaximum = deltaMaximum;
+		this.activeVertices = activeVertices;
+		this.processedEdges = processedEdges;
+		this.totalProcessedEdges = totalProcessedEdges;
+		this.elapsedNanos = elapsedNanos;
+		this.totalElapsedNanos = totalElapsedNanos;
+	}
+
+	public int pulse() {
+		return pulse;
+	}
+
+	public double activationSum() {
+		return activationSum;
+	}
+
+	public double deltaSum() {
+		return deltaSum;
+	}
+
+	public double deltaMaximum() {
+		return deltaMaximum;
+	}
+
+	public int activeVertices() {
+		return activeVertices;
+	}
+
+	public long processedEdges() {
+		return processedEdges;
+	}
+
+	public long totalProcessedEdges() {
+		return totalProcessedEdges;
+	}
+
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long totalElapsedNanos() {
+		return totalElapsedNanos;
+	}
+
+}
@@ -0,0 +1,115 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.Arrays;
+
+public final class TopActivations {
+
+	private final int limit;
+
+	private int[] items;
+	private double[] activations;
+	private int size = 0;
+
+	public TopActivations(int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("limit has to be non-negative");
+		}
+		this.limit = limit;
+		this.items = new int[Math.max(Math.min(limit, 16), 1)];
+		this.activations = new double[items.length];
+	}
+
+	public int limit() {
+		return limit;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isFull() {
+		return size == limit;
+	}
+
+	public double minimumActivation() {
+		return size > 0 ? activations[0] : Double.NEGATIVE_INFINITY;
+	}
+
+	public boolean offer(int item, double activation) {
+		if (size < limit) {
+			if (size == items.length) {
+				int capacity = Math.min(limit, size * 2);
+				items = Arrays.copyOf(items, capacity);
+				activations = Arrays.copyOf(activations, capacity);
+			}
+			items[size] = item;
+			activations[size] = activation;
+			siftUp(size++);
+			return true;
+		}
+		if (limit == 0 || !less(items[0], activations[0], item, activation)) {
+			return false;
+		}
+		items[0] = item;
+		activations[0] = activation;
+		siftDown(0);
+		return true;
+	}
+
+	public int[] drain() {
+		int[] sorted = new int[size];
+		for (int i = sorted.length - 1; i >= 0; i--) {
+			sorted[i] = items[0];
+			size--;
+			items[0] = items[size];
+			activations[0] = activations[size];
+			siftDown(0);
+		}
+		return sorted;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	private void siftUp(int index) {
+		int item = items[index];
+		double activation = activations[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!less(item, activation, items[parent], activations[parent])) {
+				break;
+			}
+			items[index] = items[parent];
+			activations[index] = activations[parent];
+			index = parent;
+		}
+		items[index] = item;
+		activations[index] = activation;
+	}
+
+	private void siftDown(int index) {
+		int item = items[index];
+		double activation = activations[index];
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			if (child + 1 < size && less(items[child + 1], activations[child + 1], items[child], activations[child])) {
+				child++;
+			}
+			if (!less(items[child], activations[child], item, activation)) {
+				break;
+			}
+			items[index] = items[child];
+			activations[index] = activations[child];
+			index = child;
+		}
+		items[index] = item;
+		activations[index] = activation;
+	}
+
+	private static boolean less(int item, double activation, int otherItem, double otherActivation) {
+		return activation < otherActivation || (activation == otherActivation && item > otherItem);
+	}
+
+}
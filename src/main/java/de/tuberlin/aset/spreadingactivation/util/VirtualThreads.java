@@ -0,0 +1,18 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.concurrent.ExecutorService;
+
+public final class VirtualThreads {
+
+	private VirtualThreads() {
+	}
+
+	public static boolean isSupported() {
+		return false;
+	}
+
+	public static ExecutorService newExecutor() {
+		throw new UnsupportedOperationException("virtual threads require Java 21");
+	}
+
+}
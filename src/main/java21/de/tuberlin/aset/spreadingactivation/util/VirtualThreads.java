@@ -0,0 +1,19 @@
+package de.tuberlin.aset.spreadingactivation.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class VirtualThreads {
+
+	private VirtualThreads() {
+	}
+
+	public static boolean isSupported() {
+		return true;
+	}
+
+	public static ExecutorService newExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+}